@@ -0,0 +1,37 @@
+#!/bin/sh
+# Starts the application with the heap sized from the container memory limit and the GC
+# chosen by GC_PROFILE:
+#   g1   throughput with bounded pauses (default), G1_MAX_PAUSE_MILLIS sets the pause goal
+#   zgc  generational ZGC, sub-millisecond pauses for latency sensitive deployments
+# Extra JVM options can be given in JAVA_OPTS, application arguments after the image name.
+set -e
+
+case "${GC_PROFILE:-g1}" in
+    g1)
+        GC_OPTS="-XX:+UseG1GC -XX:MaxGCPauseMillis=${G1_MAX_PAUSE_MILLIS:-200}"
+        ;;
+    zgc)
+        GC_OPTS="-XX:+UseZGC -XX:+ZGenerational"
+        ;;
+    *)
+        echo "Unknown GC_PROFILE '${GC_PROFILE}', expected g1 or zgc" >&2
+        exit 1
+        ;;
+esac
+
+# Use the AOT generated context when the image was built with the aot profile
+AOT_OPTS=""
+if [ -f BOOT-INF/classes/com/taskmanagement/TaskManagementApplication__ApplicationContextInitializer.class ]; then
+    AOT_OPTS="-Dspring.aot.enabled=true"
+fi
+
+# Heap is a share of the container limit, not of the host memory; the rest is left for
+# metaspace, thread stacks, direct buffers and the code cache
+exec java \
+    -XX:MaxRAMPercentage="${JAVA_MAX_RAM_PERCENTAGE:-75}" \
+    -XX:InitialRAMPercentage="${JAVA_INITIAL_RAM_PERCENTAGE:-50}" \
+    -XX:+ExitOnOutOfMemoryError \
+    ${GC_OPTS} \
+    ${AOT_OPTS} \
+    ${JAVA_OPTS} \
+    org.springframework.boot.loader.launch.JarLauncher "$@"
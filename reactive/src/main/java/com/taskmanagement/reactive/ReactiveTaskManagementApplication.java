@@ -0,0 +1,27 @@
+package com.taskmanagement.reactive;
+
+import com.taskmanagement.security.JwtKeyRing;
+import com.taskmanagement.security.JwtProperties;
+import com.taskmanagement.security.JwtUtils;
+import com.taskmanagement.security.TokenRevocationRegistry;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Read-only twin of the task and comment read endpoints, served by WebFlux over R2DBC against
+ * the same database. Tokens issued by the main application are accepted as is, and the token
+ * revocations it records are polled from the shared table.
+ */
+@SpringBootApplication
+@EnableScheduling
+@EnableConfigurationProperties(JwtProperties.class)
+@Import({JwtKeyRing.class, JwtUtils.class, TokenRevocationRegistry.class})
+public class ReactiveTaskManagementApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveTaskManagementApplication.class, args);
+    }
+}
@@ -0,0 +1,131 @@
+package com.taskmanagement.reactive.controller;
+
+import com.taskmanagement.dto.CommentDto;
+import com.taskmanagement.reactive.service.ReactiveCommentService;
+import com.taskmanagement.security.AuthenticatedUser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read endpoints of the main CommentController, same paths and response bodies, plus a
+ * streaming variant of a task's comments.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/comments")
+public class ReactiveCommentController {
+
+    private final ReactiveCommentService commentService;
+
+    public ReactiveCommentController(ReactiveCommentService commentService) {
+        this.commentService = commentService;
+    }
+
+    @Operation(summary = "Get comment by ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fetched comment successfully"),
+            @ApiResponse(responseCode = "404", description = "Comment not found")
+    })
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Object>> getCommentById(
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable Long id) {
+        return commentService.getCommentById(user.tenantId(), id)
+                .map(comment -> ResponseEntity.ok((Object) comment))
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "Comment not found")));
+    }
+
+    @Operation(summary = "Get comments by task")
+    @GetMapping("/task/{taskId}")
+    public Mono<ResponseEntity<Map<String, Object>>> getCommentsByTask(
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable Long taskId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        var pageable = PageRequest.of(page, size);
+        return commentService.getCommentsByTask(user.tenantId(), taskId, pageable)
+                .map(comments -> ResponseEntity.ok(commentsBody(comments)));
+    }
+
+    @Operation(summary = "Stream all comments of a task, oldest first; ask for application/x-ndjson to get one comment per line")
+    @GetMapping(value = "/task/{taskId}/stream", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<CommentDto> streamCommentsByTask(
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable Long taskId) {
+        log.info("Streaming comments of task with id: {}", taskId);
+        return commentService.streamCommentsByTask(user.tenantId(), taskId);
+    }
+
+    @Operation(summary = "Get the comment timeline of a task using cursors")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fetched comments successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
+    @GetMapping("/task/{taskId}/timeline")
+    public Mono<ResponseEntity<Object>> getCommentTimeline(
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable Long taskId,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return commentService.getCommentTimeline(user.tenantId(), taskId, after, before, size)
+                    .map(timeline -> ResponseEntity.ok((Object) timeline));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid timeline request for task with id {}: {}", taskId, e.getMessage());
+            return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage())));
+        }
+    }
+
+    @Operation(summary = "Get comments by user")
+    @GetMapping("/user/{userId}")
+    public Mono<ResponseEntity<Map<String, Object>>> getCommentsByUser(
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        var pageable = PageRequest.of(page, size);
+        return commentService.getCommentsByUser(user.tenantId(), userId, pageable)
+                .map(comments -> ResponseEntity.ok(commentsBody(comments)));
+    }
+
+    @Operation(summary = "Get several comments by id in one call")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fetched comments successfully"),
+            @ApiResponse(responseCode = "400", description = "No ids or too many ids")
+    })
+    @GetMapping(params = "ids")
+    public Mono<ResponseEntity<Object>> getCommentsByIds(
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam List<Long> ids) {
+        try {
+            return commentService.getCommentsByIds(user.tenantId(), ids)
+                    .map(result -> ResponseEntity.ok((Object) result));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid batch comment request: {}", e.getMessage());
+            return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage())));
+        }
+    }
+
+    private static Map<String, Object> commentsBody(List<CommentDto> comments) {
+        return Map.of("comments", comments.isEmpty() ? "No comments found" : comments);
+    }
+}
@@ -0,0 +1,149 @@
+package com.taskmanagement.reactive.controller;
+
+import com.taskmanagement.dto.TaskDto;
+import com.taskmanagement.entity.Priority;
+import com.taskmanagement.entity.Status;
+import com.taskmanagement.reactive.repository.TaskReadRepository;
+import com.taskmanagement.reactive.service.ReactiveTaskService;
+import com.taskmanagement.security.AuthenticatedUser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read endpoints of the main TaskController, same paths and response bodies.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/tasks")
+public class ReactiveTaskController {
+
+    private final ReactiveTaskService taskService;
+
+    public ReactiveTaskController(ReactiveTaskService taskService) {
+        this.taskService = taskService;
+    }
+
+    @Operation(summary = "Get task by ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fetched task successfully"),
+            @ApiResponse(responseCode = "404", description = "Task not found")
+    })
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Object>> getTaskById(
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable Long id) {
+        return taskService.getTaskById(user.tenantId(), id)
+                .map(task -> ResponseEntity.ok((Object) task))
+                .defaultIfEmpty(ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "Task not found")));
+    }
+
+    @Operation(summary = "Get tasks by assignee")
+    @GetMapping("/assignee/{assigneeId}")
+    public Mono<ResponseEntity<Object>> getTasksByAssignee(
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable Long assigneeId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        return getTasks(user, TaskReadRepository.Filter.ASSIGNEE, assigneeId, page, size, includeArchived);
+    }
+
+    @Operation(summary = "Get tasks by status")
+    @GetMapping("/status")
+    public Mono<ResponseEntity<Object>> getTasksByStatus(
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam Status status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        return getTasks(user, TaskReadRepository.Filter.STATUS, status, page, size, includeArchived);
+    }
+
+    @Operation(summary = "Get tasks by priority")
+    @GetMapping("/priority")
+    public Mono<ResponseEntity<Object>> getTasksByPriority(
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam Priority priority,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        return getTasks(user, TaskReadRepository.Filter.PRIORITY, priority, page, size, includeArchived);
+    }
+
+    @Operation(summary = "Get tasks by user")
+    @GetMapping("/user/{userId}")
+    public Mono<ResponseEntity<Map<String, Object>>> getTasksByUser(
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        try {
+            var pageable = PageRequest.of(page, size);
+            return taskService.getTasks(user.tenantId(), TaskReadRepository.Filter.AUTHOR, userId, pageable, includeArchived)
+                    .map(tasksPage -> tasksPage.getTotalElements() == 0
+                            ? ResponseEntity.status(HttpStatus.NOT_FOUND)
+                                    .body(Map.<String, Object>of("error", "No tasks found for user with ID: " + userId))
+                            : ResponseEntity.ok(Map.<String, Object>of("content", tasksPage.getContent())));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid page request for tasks of user with ID {}: {}", userId, e.getMessage());
+            return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage())));
+        }
+    }
+
+    @Operation(summary = "Get all tasks, streamed page by page as the client reads; ask for application/x-ndjson to get one task per line")
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<TaskDto> getAllTasks(@Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user) {
+        log.info("Streaming all tasks");
+        return taskService.streamAllTasks(user.tenantId());
+    }
+
+    @Operation(summary = "Get several tasks by id in one call")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fetched tasks successfully"),
+            @ApiResponse(responseCode = "400", description = "No ids or too many ids")
+    })
+    @GetMapping(params = "ids")
+    public Mono<ResponseEntity<Object>> getTasksByIds(
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam List<Long> ids) {
+        try {
+            return taskService.getTasksByIds(user.tenantId(), ids)
+                    .map(result -> ResponseEntity.ok((Object) result));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid batch task request: {}", e.getMessage());
+            return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage())));
+        }
+    }
+
+    private Mono<ResponseEntity<Object>> getTasks(AuthenticatedUser user, TaskReadRepository.Filter filter, Object value,
+                                                  int page, int size, boolean includeArchived) {
+        log.info("Fetching tasks by {}: {}, page: {}, size: {}", filter, value, page, size);
+        try {
+            var pageable = PageRequest.of(page, size);
+            return taskService.getTasks(user.tenantId(), filter, value, pageable, includeArchived)
+                    .map(tasks -> ResponseEntity.ok((Object) tasks));
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid page request for tasks by {}: {}", filter, e.getMessage());
+            return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage())));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.taskmanagement.reactive.repository;
+
+import com.taskmanagement.dto.CommentDto;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Comment reads over R2DBC, filtered on tenant_id and deleted by every statement, and hiding the
+ * comments of deleted users like the Comment entity does.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentReadRepository {
+
+    private static final String SELECT = "select id, content, task_id, author_id, created_at from comment "
+            + "where tenant_id = :tenantId and deleted = false "
+            + "and not exists (select 1 from user u where u.id = comment.author_id and u.deleted = true) "
+            + "and not exists (select 1 from task t join user u on u.id = t.author_id where t.id = comment.task_id and u.deleted = true)";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<CommentDto> findById(String tenantId, Long id) {
+        return databaseClient.sql(SELECT + " and id = :id")
+                .bind("tenantId", tenantId)
+                .bind("id", id)
+                .map(CommentReadRepository::toDto)
+                .one();
+    }
+
+    public Flux<CommentDto> findByIds(String tenantId, Collection<Long> ids) {
+        return databaseClient.sql(SELECT + " and id in (:ids)")
+                .bind("tenantId", tenantId)
+                .bind("ids", ids)
+                .map(CommentReadRepository::toDto)
+                .all();
+    }
+
+    public Flux<CommentDto> findByTaskId(String tenantId, Long taskId, long offset, int limit) {
+        return findBy(tenantId, "task_id", taskId, offset, limit);
+    }
+
+    public Flux<CommentDto> findByAuthorId(String tenantId, Long authorId, long offset, int limit) {
+        return findBy(tenantId, "author_id", authorId, offset, limit);
+    }
+
+    // Keyset access to a task's timeline, as CommentRepository does it, served by the (tenant_id, task_id, id) index
+    public Flux<CommentDto> findByTaskIdAfter(String tenantId, Long taskId, Long afterId, int limit) {
+        return databaseClient.sql(SELECT + " and task_id = :taskId and id > :afterId order by id limit :limit")
+                .bind("tenantId", tenantId)
+                .bind("taskId", taskId)
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(CommentReadRepository::toDto)
+                .all();
+    }
+
+    public Flux<CommentDto> findByTaskIdBefore(String tenantId, Long taskId, Long beforeId, int limit) {
+        return databaseClient.sql(SELECT + " and task_id = :taskId and id < :beforeId order by id desc limit :limit")
+                .bind("tenantId", tenantId)
+                .bind("taskId", taskId)
+                .bind("beforeId", beforeId)
+                .bind("limit", limit)
+                .map(CommentReadRepository::toDto)
+                .all();
+    }
+
+    /**
+     * Streams all comments of a task oldest first, one keyset page per demand, like
+     * {@link TaskReadRepository#streamAll}.
+     */
+    public Flux<CommentDto> streamByTaskId(String tenantId, Long taskId, int pageSize) {
+        return findPageAfter(tenantId, taskId, 0L, pageSize)
+                .expand(page -> page.size() < pageSize
+                        ? Mono.empty()
+                        : findPageAfter(tenantId, taskId, page.get(page.size() - 1).getId(), pageSize))
+                .concatMapIterable(page -> page);
+    }
+
+    private Mono<List<CommentDto>> findPageAfter(String tenantId, Long taskId, Long afterId, int pageSize) {
+        return findByTaskIdAfter(tenantId, taskId, afterId, pageSize).collectList();
+    }
+
+    private Flux<CommentDto> findBy(String tenantId, String column, Long value, long offset, int limit) {
+        return databaseClient.sql(SELECT + " and " + column + " = :value order by id limit :limit offset :offset")
+                .bind("tenantId", tenantId)
+                .bind("value", value)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(CommentReadRepository::toDto)
+                .all();
+    }
+
+    private static CommentDto toDto(Readable row) {
+        var comment = new CommentDto();
+        comment.setId(row.get("id", Long.class));
+        comment.setContent(row.get("content", String.class));
+        comment.setTaskId(row.get("task_id", Long.class));
+        comment.setAuthorId(row.get("author_id", Long.class));
+        // Hibernate writes instants as local datetimes of the JVM zone, both services must run in the same zone
+        var createdAt = row.get("created_at", LocalDateTime.class);
+        comment.setCreatedAt(createdAt != null ? createdAt.atZone(ZoneId.systemDefault()).toInstant() : null);
+        return comment;
+    }
+}
@@ -0,0 +1,135 @@
+package com.taskmanagement.reactive.repository;
+
+import com.taskmanagement.dto.TaskDto;
+import com.taskmanagement.entity.Priority;
+import com.taskmanagement.entity.Status;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Task reads over R2DBC. Every statement filters on tenant_id itself, there is no Hibernate
+ * tenant filter here, and on deleted for live tasks. Archived tasks follow the live ones, as
+ * in the main application.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskReadRepository {
+
+    private static final String LIVE_SELECT = "select id, title, description, priority, status, author_id, assignee_id, "
+            + "version, 0 as archived from task where tenant_id = :tenantId and deleted = false "
+            + "and not exists (select 1 from user u where u.id = task.author_id and u.deleted = true)";
+    private static final String ARCHIVED_SELECT = "select id, title, description, priority, status, author_id, assignee_id, "
+            + "null as version, 1 as archived from archived_task where tenant_id = :tenantId";
+
+    public enum Filter {
+        STATUS("status"),
+        PRIORITY("priority"),
+        ASSIGNEE("assignee_id"),
+        AUTHOR("author_id");
+
+        private final String column;
+
+        Filter(String column) {
+            this.column = column;
+        }
+    }
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<TaskDto> findById(String tenantId, Long id) {
+        return databaseClient.sql(LIVE_SELECT + " and id = :id")
+                .bind("tenantId", tenantId)
+                .bind("id", id)
+                .map(TaskReadRepository::toDto)
+                .one()
+                .switchIfEmpty(Mono.defer(() -> databaseClient.sql(ARCHIVED_SELECT + " and id = :id")
+                        .bind("tenantId", tenantId)
+                        .bind("id", id)
+                        .map(TaskReadRepository::toDto)
+                        .one()));
+    }
+
+    public Flux<TaskDto> findByIds(String tenantId, Collection<Long> ids) {
+        return databaseClient.sql("select * from (" + LIVE_SELECT + " and id in (:ids) union all "
+                        + ARCHIVED_SELECT + " and id in (:ids)) tasks")
+                .bind("tenantId", tenantId)
+                .bind("ids", ids)
+                .map(TaskReadRepository::toDto)
+                .all();
+    }
+
+    /**
+     * Offset page in the shape of the MVC endpoints; content and count run concurrently.
+     */
+    public Mono<Page<TaskDto>> findPage(String tenantId, Filter filter, Object value, Pageable pageable,
+                                        boolean includeArchived) {
+        var where = " and " + filter.column + " = :value";
+        var from = includeArchived
+                ? "(" + LIVE_SELECT + where + " union all " + ARCHIVED_SELECT + where + ") tasks"
+                : "(" + LIVE_SELECT + where + ") tasks";
+        var boundValue = value instanceof Enum<?> e ? e.name() : value;
+
+        Mono<List<TaskDto>> content = databaseClient.sql("select * from " + from + " order by archived, id limit :limit offset :offset")
+                .bind("tenantId", tenantId)
+                .bind("value", boundValue)
+                .bind("limit", pageable.getPageSize())
+                .bind("offset", pageable.getOffset())
+                .map(TaskReadRepository::toDto)
+                .all()
+                .collectList();
+        Mono<Long> total = databaseClient.sql("select count(*) as total from " + from)
+                .bind("tenantId", tenantId)
+                .bind("value", boundValue)
+                .map(row -> row.get("total", Long.class))
+                .one();
+        return Mono.zip(content, total)
+                .map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()));
+    }
+
+    /**
+     * Streams every live task of the tenant in keyset pages. The next page is only queried once
+     * the subscriber has asked for more than the previous one held, so a slow client holds at
+     * most one page in memory and no connection in between.
+     */
+    public Flux<TaskDto> streamAll(String tenantId, int pageSize) {
+        return findPageAfter(tenantId, 0L, pageSize)
+                .expand(page -> page.size() < pageSize
+                        ? Mono.empty()
+                        : findPageAfter(tenantId, page.get(page.size() - 1).getId(), pageSize))
+                .concatMapIterable(page -> page);
+    }
+
+    private Mono<List<TaskDto>> findPageAfter(String tenantId, Long afterId, int pageSize) {
+        return databaseClient.sql(LIVE_SELECT + " and id > :afterId order by id limit :limit")
+                .bind("tenantId", tenantId)
+                .bind("afterId", afterId)
+                .bind("limit", pageSize)
+                .map(TaskReadRepository::toDto)
+                .all()
+                .collectList();
+    }
+
+    private static TaskDto toDto(Readable row) {
+        var task = new TaskDto();
+        task.setId(row.get("id", Long.class));
+        task.setTitle(row.get("title", String.class));
+        task.setDescription(row.get("description", String.class));
+        task.setPriority(Priority.valueOf(row.get("priority", String.class)));
+        task.setStatus(Status.valueOf(row.get("status", String.class)));
+        task.setAuthorId(row.get("author_id", Long.class));
+        task.setAssigneeId(row.get("assignee_id", Long.class));
+        task.setVersion(row.get("version", Long.class));
+        task.setArchived(row.get("archived", Long.class) == 1L);
+        return task;
+    }
+}
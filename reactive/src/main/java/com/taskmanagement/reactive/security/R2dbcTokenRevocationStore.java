@@ -0,0 +1,43 @@
+package com.taskmanagement.reactive.security;
+
+import com.taskmanagement.security.TokenRevocationStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Reads the cutoffs written by the main application. Only called from startup and the scheduler,
+ * never from an event loop thread, so blocking on the result is fine.
+ */
+@Component
+@RequiredArgsConstructor
+public class R2dbcTokenRevocationStore implements TokenRevocationStore {
+
+    private final DatabaseClient databaseClient;
+
+    // This service has no endpoint that changes users
+    @Override
+    public void save(Long userId, long revokedBefore) {
+        throw new UnsupportedOperationException("Token revocations are written by the main application");
+    }
+
+    @Override
+    public Map<Long, Long> findRevokedAfter(long horizon) {
+        return databaseClient.sql("select user_id, revoked_before from token_revocation where revoked_before > :horizon")
+                .bind("horizon", horizon)
+                .map(row -> Map.entry(row.get("user_id", Long.class), row.get("revoked_before", Long.class)))
+                .all()
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .block();
+    }
+
+    @Override
+    public void deleteRevokedBefore(long horizon) {
+        databaseClient.sql("delete from token_revocation where revoked_before < :horizon")
+                .bind("horizon", horizon)
+                .then()
+                .block();
+    }
+}
@@ -0,0 +1,75 @@
+package com.taskmanagement.reactive.security;
+
+import com.taskmanagement.security.AuthenticatedUser;
+import com.taskmanagement.security.JwtUtils;
+import io.jsonwebtoken.JwtException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Stateless bearer token authentication with the same keys and claims as the main application.
+ * The tenant is taken from the token only: this service has no login or register endpoints.
+ */
+@Slf4j
+@Configuration
+@EnableWebFluxSecurity
+public class ReactiveSecurityConfig {
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http, JwtUtils jwtUtils) {
+        // The converter already returns a verified authentication, there is nothing left to check
+        ReactiveAuthenticationManager passThrough = Mono::just;
+        var jwtFilter = new AuthenticationWebFilter(passThrough);
+        jwtFilter.setServerAuthenticationConverter(bearerTokenConverter(jwtUtils));
+        jwtFilter.setSecurityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+
+        return http.csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authorizeExchange(exchanges -> exchanges
+                        .pathMatchers("/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**", "/webjars/**").permitAll()
+                        .pathMatchers("/actuator/health").permitAll()
+                        .anyExchange().authenticated())
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED)))
+                .addFilterAt(jwtFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+
+    // Verification is CPU only, so it runs inline on the event loop
+    private static ServerAuthenticationConverter bearerTokenConverter(JwtUtils jwtUtils) {
+        return exchange -> {
+            var header = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+            if (header == null || !header.startsWith("Bearer ")) {
+                return Mono.empty();
+            }
+            try {
+                return Mono.justOrEmpty(jwtUtils.parsePrincipal(header.substring(7)))
+                        .map(ReactiveSecurityConfig::authenticated);
+            } catch (JwtException | IllegalArgumentException e) {
+                log.debug("Invalid token: {}", e.getMessage());
+                return Mono.empty();
+            }
+        };
+    }
+
+    private static Authentication authenticated(AuthenticatedUser principal) {
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+}
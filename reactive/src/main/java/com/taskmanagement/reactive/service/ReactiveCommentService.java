@@ -0,0 +1,94 @@
+package com.taskmanagement.reactive.service;
+
+import com.taskmanagement.dto.BatchResult;
+import com.taskmanagement.dto.CommentDto;
+import com.taskmanagement.dto.CursorPage;
+import com.taskmanagement.reactive.repository.CommentReadRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveCommentService {
+
+    private static final int MAX_TIMELINE_PAGE_SIZE = 100;
+
+    private final CommentReadRepository commentReadRepository;
+
+    @Value("${reactive.stream-page-size:500}")
+    private int streamPageSize;
+
+    public Mono<CommentDto> getCommentById(String tenantId, Long id) {
+        return commentReadRepository.findById(tenantId, id);
+    }
+
+    public Mono<List<CommentDto>> getCommentsByTask(String tenantId, Long taskId, Pageable pageable) {
+        return commentReadRepository.findByTaskId(tenantId, taskId, pageable.getOffset(), pageable.getPageSize())
+                .collectList()
+                .doOnNext(comments -> log.info("Fetched {} comments for task with id: {}", comments.size(), taskId));
+    }
+
+    public Mono<List<CommentDto>> getCommentsByUser(String tenantId, Long userId, Pageable pageable) {
+        return commentReadRepository.findByAuthorId(tenantId, userId, pageable.getOffset(), pageable.getPageSize())
+                .collectList()
+                .doOnNext(comments -> log.info("Fetched {} comments for user with id: {}", comments.size(), userId));
+    }
+
+    public Flux<CommentDto> streamCommentsByTask(String tenantId, Long taskId) {
+        return commentReadRepository.streamByTaskId(tenantId, taskId, streamPageSize);
+    }
+
+    public Mono<BatchResult<CommentDto>> getCommentsByIds(String tenantId, List<Long> ids) {
+        var distinctIds = ReactiveTaskService.normalizeIds(ids);
+        return commentReadRepository.findByIds(tenantId, distinctIds)
+                .collectList()
+                .map(comments -> BatchResult.of(distinctIds, ReactiveTaskService.inIdOrder(distinctIds, comments, CommentDto::getId)));
+    }
+
+    /**
+     * Same keyset timeline and cursors as CommentService.getCommentTimeline.
+     */
+    public Mono<CursorPage<CommentDto>> getCommentTimeline(String tenantId, Long taskId, String after, String before, int size) {
+        if (after != null && before != null) {
+            throw new IllegalArgumentException("Only one of 'after' and 'before' can be given");
+        }
+        if (size < 1 || size > MAX_TIMELINE_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_TIMELINE_PAGE_SIZE);
+        }
+
+        boolean backwards = before != null;
+        Flux<CommentDto> query = backwards
+                ? commentReadRepository.findByTaskIdBefore(tenantId, taskId, CursorPage.decodeCursor(before), size + 1)
+                : commentReadRepository.findByTaskIdAfter(tenantId, taskId, after != null ? CursorPage.decodeCursor(after) : 0L, size + 1);
+
+        return query.collectList().map(fetched -> {
+            boolean hasMore = fetched.size() > size;
+            var comments = new ArrayList<>(hasMore ? fetched.subList(0, size) : fetched);
+            if (backwards) {
+                Collections.reverse(comments);
+            }
+
+            String nextCursor = null;
+            String previousCursor = null;
+            if (!comments.isEmpty()) {
+                var firstId = comments.get(0).getId();
+                var lastId = comments.get(comments.size() - 1).getId();
+                nextCursor = backwards || hasMore ? CursorPage.encodeCursor(lastId) : null;
+                previousCursor = backwards ? (hasMore ? CursorPage.encodeCursor(firstId) : null)
+                        : (after != null ? CursorPage.encodeCursor(firstId) : null);
+            }
+            log.info("Fetched {} timeline comments for task with id: {}", comments.size(), taskId);
+            return new CursorPage<>(List.copyOf(comments), nextCursor, previousCursor);
+        });
+    }
+}
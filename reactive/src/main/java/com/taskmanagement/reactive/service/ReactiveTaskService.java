@@ -0,0 +1,83 @@
+package com.taskmanagement.reactive.service;
+
+import com.taskmanagement.dto.BatchResult;
+import com.taskmanagement.dto.TaskDto;
+import com.taskmanagement.reactive.repository.TaskReadRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ReactiveTaskService {
+
+    // Same limit as BatchReadService of the main application
+    public static final int MAX_IDS_PER_REQUEST = 500;
+
+    private final TaskReadRepository taskReadRepository;
+
+    @Value("${reactive.stream-page-size:500}")
+    private int streamPageSize;
+
+    public Mono<TaskDto> getTaskById(String tenantId, Long id) {
+        return taskReadRepository.findById(tenantId, id);
+    }
+
+    public Mono<Page<TaskDto>> getTasks(String tenantId, TaskReadRepository.Filter filter, Object value,
+                                        Pageable pageable, boolean includeArchived) {
+        return taskReadRepository.findPage(tenantId, filter, value, pageable, includeArchived)
+                .doOnNext(page -> log.info("Fetched {} tasks by {} {}", page.getTotalElements(), filter, value));
+    }
+
+    public Flux<TaskDto> streamAllTasks(String tenantId) {
+        return taskReadRepository.streamAll(tenantId, streamPageSize);
+    }
+
+    public Mono<BatchResult<TaskDto>> getTasksByIds(String tenantId, List<Long> ids) {
+        var distinctIds = normalizeIds(ids);
+        return taskReadRepository.findByIds(tenantId, distinctIds)
+                .collectList()
+                .map(tasks -> BatchResult.of(distinctIds, inIdOrder(distinctIds, tasks, TaskDto::getId)));
+    }
+
+    /**
+     * Keys the rows by id in the order the ids were requested, whatever order the database returned them in.
+     */
+    static <T> Map<Long, T> inIdOrder(List<Long> ids, List<T> rows, Function<T, Long> id) {
+        var byId = rows.stream().collect(Collectors.toMap(id, Function.identity()));
+        var ordered = new LinkedHashMap<Long, T>();
+        for (var rowId : ids) {
+            var row = byId.get(rowId);
+            if (row != null) {
+                ordered.put(rowId, row);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Drops null and repeated ids, keeping the order.
+     */
+    public static List<Long> normalizeIds(List<Long> ids) {
+        var distinct = (ids != null ? ids : Collections.<Long>emptyList()).stream()
+                .filter(Objects::nonNull).distinct().toList();
+        if (distinct.isEmpty() || distinct.size() > MAX_IDS_PER_REQUEST) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_IDS_PER_REQUEST + " ids must be given");
+        }
+        return distinct;
+    }
+}
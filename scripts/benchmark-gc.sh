@@ -0,0 +1,74 @@
+#!/usr/bin/env bash
+# Compares request latency of the production image under each GC profile. Every profile
+# gets a fresh container with the same CPU and memory limits, a warm-up, then a constant
+# request rate from wrk2, whose latency percentiles are free of coordinated omission.
+#
+#   DB_PASSWORD=... JWT_SECRET=... JWT_ACTIVE_KEY_ID=bench scripts/benchmark-gc.sh
+#
+# Requires docker compose, wrk2 and jq. Rate limiting is switched off for the run, since all
+# requests come from one user.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+GC_PROFILES=${GC_PROFILES:-"g1 zgc"}
+RATE=${RATE:-2000}
+THREADS=${THREADS:-4}
+CONNECTIONS=${CONNECTIONS:-40}
+WARMUP=${WARMUP:-60s}
+DURATION=${DURATION:-120s}
+WRK2=${WRK2:-wrk2}
+BASE_URL=${BASE_URL:-http://localhost:8081}
+RESULTS=${RESULTS:-target/benchmark-gc}
+COMPOSE=(docker compose -f docker-compose.yml -f docker-compose.prod.yml)
+
+export RATELIMIT_ENABLED=false
+export TENANT_MAXCONCURRENTREQUESTS=$((CONNECTIONS * 2))
+
+mkdir -p "$RESULTS"
+: > "$RESULTS/summary.txt"
+
+"${COMPOSE[@]}" build app
+
+login() {
+    local user='{"email":"gc-bench@example.com","password":"gc-bench-password","name":"GC bench","role":"USER"}'
+    curl -s -o /dev/null -H 'Content-Type: application/json' -d "$user" "$BASE_URL/api/auth/register" || true
+    curl -sf -H 'Content-Type: application/json' \
+        -d '{"email":"gc-bench@example.com","password":"gc-bench-password"}' "$BASE_URL/api/auth/login" | jq -r .token
+}
+
+wait_for_login() {
+    for _ in $(seq 1 120); do
+        if TOKEN=$(login) && [[ -n "$TOKEN" && "$TOKEN" != "null" ]]; then
+            return 0
+        fi
+        sleep 2
+    done
+    echo "Application did not come up" >&2
+    return 1
+}
+
+for gc in $GC_PROFILES; do
+    echo "== GC profile $gc"
+    GC_PROFILE=$gc "${COMPOSE[@]}" up -d --force-recreate app
+    wait_for_login
+
+    # the user id is the uid claim of the access token
+    user_id=$(jq -rR 'split(".")[1] | gsub("-"; "+") | gsub("_"; "/") | @base64d | fromjson | .uid' <<< "$TOKEN")
+    task_id=$(curl -sf -H "Authorization: Bearer $TOKEN" -H 'Content-Type: application/json' \
+        -d "{\"title\":\"GC bench\",\"description\":\"GC bench\",\"priority\":\"HIGH\",\"status\":\"PENDING\",\"authorId\":$user_id,\"assigneeId\":$user_id}" \
+        "$BASE_URL/api/tasks" | jq -r .id)
+    url="$BASE_URL/api/tasks/$task_id"
+
+    "$WRK2" -t"$THREADS" -c"$CONNECTIONS" -d"$WARMUP" -R"$RATE" -H "Authorization: Bearer $TOKEN" "$url" > /dev/null
+    "$WRK2" -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" -R"$RATE" --latency \
+        -H "Authorization: Bearer $TOKEN" "$url" > "$RESULTS/$gc.txt"
+    "${COMPOSE[@]}" logs app > "$RESULTS/$gc.log"
+
+    p99=$(awk '$1 == "99.000%" {print $2}' "$RESULTS/$gc.txt")
+    p999=$(awk '$1 == "99.900%" {print $2}' "$RESULTS/$gc.txt")
+    printf '%-4s %s req/s   p99 %s   p99.9 %s\n' "$gc" "$RATE" "$p99" "$p999" | tee -a "$RESULTS/summary.txt"
+done
+
+"${COMPOSE[@]}" stop app
+echo "Results in $RESULTS"
@@ -0,0 +1,85 @@
+#!/usr/bin/env bash
+# Compares the MVC application and the reactive module on the same read endpoints at equal
+# hardware: each runs alone, pinned to the same CPUs with the same heap and the same number
+# of database connections, and is loaded by the same wrk run pinned to other CPUs. Rate
+# limiting and the tenant quota of the MVC application are switched off, the reactive module
+# has neither.
+#
+#   TOKEN=$(curl -s -XPOST localhost:8080/api/auth/login ... | jq -r .token) scripts/benchmark-read-api.sh
+#
+# Both services must share the JWT keys (JWT_ACTIVE_KEY_ID, JWT_KEYS_0_ID, JWT_KEYS_0_SECRET)
+# for the token to be accepted by both. Requires wrk and taskset.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+: "${TOKEN:?set TOKEN to an access token}"
+APP_CPUS=${APP_CPUS:-0-1}
+LOAD_CPUS=${LOAD_CPUS:-2-3}
+HEAP=${HEAP:-512m}
+THREADS=${THREADS:-4}
+CONNECTIONS=${CONNECTIONS:-256}
+WARMUP=${WARMUP:-30s}
+DURATION=${DURATION:-60s}
+DB_CONNECTIONS=${DB_CONNECTIONS:-10}
+DB_HOST=${DB_HOST:-localhost:3306}
+DB_USER=${DB_USER:-root}
+DB_PASSWORD=${DB_PASSWORD:-1111}
+ENDPOINTS=${ENDPOINTS:-"/api/tasks/1 /api/tasks/status?status=PENDING&size=20 /api/comments/task/1?size=20 /api/comments/task/1/timeline?size=20"}
+MVN=${MVN:-mvn}
+RESULTS=${RESULTS:-target/benchmark-read-api}
+
+mkdir -p "$RESULTS"
+
+if [[ "${SKIP_BUILD:-false}" != "true" ]]; then
+    "$MVN" -B -q package -DskipTests
+    "$MVN" -B -q -f reactive/pom.xml package -DskipTests
+fi
+
+wait_for() {
+    for _ in $(seq 1 120); do
+        if curl -s -o /dev/null -H "Authorization: Bearer $TOKEN" "http://localhost:$1/api/tasks/1"; then
+            return 0
+        fi
+        sleep 1
+    done
+    echo "Service on port $1 did not start" >&2
+    return 1
+}
+
+run() {
+    local name=$1 port=$2 jar=$3
+    shift 3
+    echo "== $name on CPUs $APP_CPUS, heap $HEAP, $DB_CONNECTIONS database connections"
+    taskset -c "$APP_CPUS" java -Xms"$HEAP" -Xmx"$HEAP" -jar "$jar" --server.port="$port" "$@" \
+        > "$RESULTS/$name.log" 2>&1 &
+    local pid=$!
+    trap 'kill $pid 2>/dev/null || true' EXIT
+    wait_for "$port"
+
+    for endpoint in $ENDPOINTS; do
+        local url="http://localhost:$port$endpoint"
+        taskset -c "$LOAD_CPUS" wrk -t"$THREADS" -c"$CONNECTIONS" -d"$WARMUP" \
+            -H "Authorization: Bearer $TOKEN" "$url" > /dev/null
+        echo "-- $endpoint" | tee -a "$RESULTS/$name.txt"
+        taskset -c "$LOAD_CPUS" wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency \
+            -H "Authorization: Bearer $TOKEN" "$url" | tee -a "$RESULTS/$name.txt"
+    done
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+rm -f "$RESULTS"/*.txt
+run mvc 8081 target/task-management-0.0.1-SNAPSHOT.jar \
+    --spring.datasource.url="jdbc:mysql://$DB_HOST/task_management?rewriteBatchedStatements=true" \
+    --spring.datasource.username="$DB_USER" --spring.datasource.password="$DB_PASSWORD" \
+    --spring.datasource.hikari.maximum-pool-size="$DB_CONNECTIONS" \
+    --rate-limit.enabled=false --tenant.max-concurrent-requests=100000
+run reactive 8082 reactive/target/task-management-reactive-0.0.1-SNAPSHOT.jar \
+    --spring.r2dbc.url="r2dbc:mysql://$DB_HOST/task_management" \
+    --spring.r2dbc.username="$DB_USER" --spring.r2dbc.password="$DB_PASSWORD" \
+    --spring.r2dbc.pool.max-size="$DB_CONNECTIONS"
+
+echo "Results in $RESULTS/mvc.txt and $RESULTS/reactive.txt"
@@ -0,0 +1,112 @@
+#!/usr/bin/env bash
+# Measures startup time and resident memory of the application build variants, so a change
+# can be compared before and after on the same machine:
+#
+#   baseline  default build (with springdoc), plain java -jar
+#   jvm       production build without springdoc (-P!docs)
+#   aot-cds   AOT processed production build (-Paot), extracted, with a CDS archive
+#   native    GraalVM native image (-Pnative), only with NATIVE=true
+#
+# Each variant is started RUNS times against the same database. Startup is the time Spring
+# reports in its "Started ... in N seconds" line, RSS is read from /proc once it has started.
+#
+#   DB_HOST=localhost:3306 RUNS=5 scripts/measure-startup.sh
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS=${RUNS:-5}
+HEAP=${HEAP:-512m}
+NATIVE=${NATIVE:-false}
+MVN=${MVN:-mvn}
+DB_HOST=${DB_HOST:-localhost:3306}
+DB_USER=${DB_USER:-root}
+DB_PASSWORD=${DB_PASSWORD:-1111}
+# Any key will do for a startup measurement, the application refuses to start without one
+JWT_SECRET=${JWT_SECRET:-$(openssl rand -base64 32)}
+# Outside target/, which every build cleans
+WORK=${WORK:-${TMPDIR:-/tmp}/task-management-startup}
+JAR=task-management-0.0.1-SNAPSHOT.jar
+
+APP_ARGS=(
+    --spring.datasource.url="jdbc:mysql://$DB_HOST/task_management?rewriteBatchedStatements=true"
+    --spring.datasource.username="$DB_USER"
+    --spring.datasource.password="$DB_PASSWORD"
+    --jwt.keys[0].id=startup
+    --jwt.keys[0].secret="$JWT_SECRET"
+)
+
+rm -rf "$WORK"
+mkdir -p "$WORK"
+
+build() {
+    local name=$1
+    shift
+    "$MVN" -B -q clean package -DskipTests "$@"
+    mkdir -p "$WORK/$name"
+    cp "target/$JAR" "$WORK/$name/$JAR"
+}
+
+# Starts the command, waits for the startup line and prints "<seconds> <rss in MB>"
+measure() {
+    local log=$1
+    shift
+    "$@" > "$log" 2>&1 &
+    local pid=$!
+    for _ in $(seq 1 600); do
+        if grep -q "Started TaskManagementApplication" "$log"; then
+            break
+        fi
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "Application exited during startup, see $log" >&2
+            return 1
+        fi
+        sleep 0.1
+    done
+    local seconds rss_kb
+    seconds=$(grep -o "Started TaskManagementApplication in [0-9.]* seconds" "$log" | awk '{print $4}')
+    rss_kb=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "$seconds $((rss_kb / 1024))"
+}
+
+report() {
+    local name=$1
+    shift
+    local results=()
+    for run in $(seq 1 "$RUNS"); do
+        results+=("$(measure "$WORK/$name/run-$run.log" "$@")")
+    done
+    printf '%s\n' "${results[@]}" | awk -v name="$name" \
+        '{ s += $1; r += $2; if (NR == 1 || $1 < min) min = $1 }
+         END { printf "%-10s startup avg %.2fs min %.2fs   rss avg %d MB\n", name, s / NR, min, r / NR }' \
+        | tee -a "$WORK/results.txt"
+}
+
+build baseline
+build jvm -P'!docs'
+build aot-cds -Paot
+
+# Extract the AOT jar into the layout CDS needs, then record the classes loaded up to the end
+# of the context refresh in a training run
+java -Djarmode=tools -jar "$WORK/aot-cds/$JAR" extract --destination "$WORK/aot-cds/extracted"
+java -XX:ArchiveClassesAtExit="$WORK/aot-cds/app.jsa" -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+    -jar "$WORK/aot-cds/extracted/$JAR" "${APP_ARGS[@]}" > "$WORK/aot-cds/training.log" 2>&1
+
+if [[ "$NATIVE" == "true" ]]; then
+    "$MVN" -B -q clean -Pnative native:compile -DskipTests
+    mkdir -p "$WORK/native"
+    cp target/task-management "$WORK/native/task-management"
+fi
+
+: > "$WORK/results.txt"
+report baseline java -Xmx"$HEAP" -jar "$WORK/baseline/$JAR" "${APP_ARGS[@]}"
+report jvm java -Xmx"$HEAP" -jar "$WORK/jvm/$JAR" "${APP_ARGS[@]}"
+report aot-cds java -Xmx"$HEAP" -XX:SharedArchiveFile="$WORK/aot-cds/app.jsa" -Dspring.aot.enabled=true \
+    -jar "$WORK/aot-cds/extracted/$JAR" "${APP_ARGS[@]}"
+if [[ "$NATIVE" == "true" ]]; then
+    report native "$WORK/native/task-management" -Xmx"$HEAP" "${APP_ARGS[@]}"
+fi
+
+echo "Results in $WORK/results.txt"
@@ -0,0 +1,80 @@
+package com.taskmanagement.batch;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * DataLoader-style batcher: keys requested through {@link #load} are queued and resolved together
+ * by one call of the batch function on {@link #dispatch()}. Results are memoized, so a key asked
+ * for twice in the lifetime of the loader is only fetched once. Missing keys complete with null.
+ */
+public class BatchLoader<K, V> {
+
+    private final Function<Collection<K>, Map<K, V>> batchFunction;
+    private final Map<K, CompletableFuture<V>> futures = new HashMap<>();
+    private final Set<K> pending = new LinkedHashSet<>();
+
+    public BatchLoader(Function<Collection<K>, Map<K, V>> batchFunction) {
+        this.batchFunction = batchFunction;
+    }
+
+    public synchronized CompletableFuture<V> load(K key) {
+        return futures.computeIfAbsent(key, k -> {
+            pending.add(k);
+            return new CompletableFuture<>();
+        });
+    }
+
+    public List<CompletableFuture<V>> loadMany(Collection<K> keys) {
+        var loaded = new ArrayList<CompletableFuture<V>>(keys.size());
+        keys.forEach(key -> loaded.add(load(key)));
+        return loaded;
+    }
+
+    /**
+     * Loads the keys, dispatches and returns the values found, in the order of the keys.
+     */
+    public Map<K, V> loadAll(Collection<K> keys) {
+        var loaded = loadMany(keys);
+        dispatch();
+        var values = new LinkedHashMap<K, V>();
+        var keyIterator = keys.iterator();
+        for (var future : loaded) {
+            var key = keyIterator.next();
+            var value = future.join();
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+        return values;
+    }
+
+    public void dispatch() {
+        List<K> keys;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            keys = List.copyOf(pending);
+            pending.clear();
+        }
+        try {
+            var values = batchFunction.apply(keys);
+            keys.forEach(key -> completion(key).complete(values.get(key)));
+        } catch (RuntimeException e) {
+            keys.forEach(key -> completion(key).completeExceptionally(e));
+        }
+    }
+
+    private synchronized CompletableFuture<V> completion(K key) {
+        return futures.get(key);
+    }
+}
@@ -0,0 +1,39 @@
+package com.taskmanagement.batch;
+
+import com.taskmanagement.dto.CommentDto;
+import com.taskmanagement.dto.TaskDto;
+import com.taskmanagement.dto.UserSummaryDto;
+import com.taskmanagement.service.BatchReadService;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+/**
+ * Loaders living for one request, so every lookup by id made while serving it is coalesced
+ * into as few batch reads as possible and never repeated.
+ */
+@Component
+@RequestScope
+public class RequestLoaders {
+
+    private final BatchLoader<Long, TaskDto> tasks;
+    private final BatchLoader<Long, UserSummaryDto> users;
+    private final BatchLoader<Long, CommentDto> comments;
+
+    public RequestLoaders(BatchReadService batchReadService) {
+        this.tasks = new BatchLoader<>(batchReadService::findTasks);
+        this.users = new BatchLoader<>(batchReadService::findUsers);
+        this.comments = new BatchLoader<>(batchReadService::findComments);
+    }
+
+    public BatchLoader<Long, TaskDto> tasks() {
+        return tasks;
+    }
+
+    public BatchLoader<Long, UserSummaryDto> users() {
+        return users;
+    }
+
+    public BatchLoader<Long, CommentDto> comments() {
+        return comments;
+    }
+}
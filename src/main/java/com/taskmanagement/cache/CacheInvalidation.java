@@ -0,0 +1,7 @@
+package com.taskmanagement.cache;
+
+/**
+ * Eviction of one key, or of a whole cache when {@code key} is null, to replay on other nodes.
+ */
+public record CacheInvalidation(String cacheName, String key) {
+}
@@ -0,0 +1,17 @@
+package com.taskmanagement.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * Carries cache evictions between nodes so that in-process caches stay coherent. Selected with
+ * {@code cache.invalidation.bus}: {@code jdbc} (default) or {@code in-memory} for a single node and tests.
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidation invalidation);
+
+    /**
+     * Registers the listener for invalidations published by other nodes.
+     */
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
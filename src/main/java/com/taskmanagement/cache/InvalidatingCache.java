@@ -0,0 +1,112 @@
+package com.taskmanagement.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Cache that publishes its evictions once the surrounding transaction, if any, has committed,
+ * so other nodes never reload the value that is about to be replaced.
+ */
+@Slf4j
+public class InvalidatingCache implements Cache {
+
+    private final Cache target;
+    private final CacheInvalidationBus bus;
+
+    InvalidatingCache(Cache target, CacheInvalidationBus bus) {
+        this.target = target;
+        this.bus = bus;
+    }
+
+    public Cache getTargetCache() {
+        return target;
+    }
+
+    @Override
+    public String getName() {
+        return target.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return target.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return target.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return target.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return target.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        target.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return target.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        target.evict(key);
+        publish(key.toString());
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = target.evictIfPresent(key);
+        publish(key.toString());
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        target.clear();
+        publish(null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = target.invalidate();
+        publish(null);
+        return invalidated;
+    }
+
+    private void publish(String key) {
+        var invalidation = new CacheInvalidation(getName(), key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishNow(invalidation);
+                }
+            });
+        } else {
+            publishNow(invalidation);
+        }
+    }
+
+    // A lost invalidation leaves other nodes stale until the entry expires, it must not fail the write
+    private void publishNow(CacheInvalidation invalidation) {
+        try {
+            bus.publish(invalidation);
+        } catch (RuntimeException e) {
+            log.error("Failed to publish invalidation of {}: {}", invalidation, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.taskmanagement.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decorates the local cache manager so that every eviction is also published on the
+ * {@link CacheInvalidationBus}, and applies the evictions received from other nodes.
+ */
+public class InvalidatingCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final CacheInvalidationBus bus;
+    private final Map<String, InvalidatingCache> caches = new ConcurrentHashMap<>();
+
+    public InvalidatingCacheManager(CacheManager delegate, CacheInvalidationBus bus) {
+        this.delegate = delegate;
+        this.bus = bus;
+        bus.subscribe(this::apply);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        var cache = delegate.getCache(name);
+        return cache != null ? caches.computeIfAbsent(name, key -> new InvalidatingCache(cache, bus)) : null;
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    // Received evictions go to the local cache directly, so they are not published again
+    private void apply(CacheInvalidation invalidation) {
+        var cache = delegate.getCache(invalidation.cacheName());
+        if (cache == null) {
+            return;
+        }
+        if (invalidation.key() == null) {
+            cache.clear();
+        } else {
+            cache.evict(invalidation.key());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.taskmanagement.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Invalidation bus over the shared database: publishing inserts a row into {@code cache_invalidation},
+ * and every node polls the rows written by the others. Polls use the database clock and re-read a
+ * grace window, so rows committed slightly late are still seen; replaying an eviction twice is harmless.
+ * Polling runs on its own scheduler thread, so slow jobs on the shared scheduler cannot delay it and
+ * caches stay coherent within roughly the poll interval.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.bus", havingValue = "jdbc", matchIfMissing = true)
+public class JdbcCacheInvalidationBus implements CacheInvalidationBus, InitializingBean, DisposableBean {
+
+    private static final String INSERT_SQL = "insert into cache_invalidation (node_id, cache_name, cache_key) values (?, ?, ?)";
+    private static final String POLL_SQL = "select cache_name, cache_key from cache_invalidation "
+            + "where created_at >= ? and created_at < ? and node_id <> ?";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final Duration pollInterval;
+    private final Duration grace;
+    private final Duration retention;
+    private final Counter receivedCounter;
+    private final ScheduledExecutorService pollScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        var thread = new Thread(runnable, "cache-invalidation-poll");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Timestamp polledUntil;
+
+    public JdbcCacheInvalidationBus(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                    @Value("${cache.invalidation.poll-interval:PT1S}") Duration pollInterval,
+                                    @Value("${cache.invalidation.grace:PT5S}") Duration grace,
+                                    @Value("${cache.invalidation.retention:PT10M}") Duration retention,
+                                    MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.pollInterval = pollInterval;
+        this.grace = grace;
+        this.retention = retention;
+        this.receivedCounter = meterRegistry.counter("cache.invalidation.received");
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        pollScheduler.scheduleWithFixedDelay(this::poll, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        pollScheduler.shutdownNow();
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        // own transaction: publishing happens after commit, while the finished one is still bound
+        requiresNew.executeWithoutResult(status ->
+                jdbcTemplate.update(INSERT_SQL, nodeId, invalidation.cacheName(), invalidation.key()));
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listeners.add(listener);
+    }
+
+    void poll() {
+        try {
+            var now = databaseNow();
+            if (polledUntil == null) {
+                polledUntil = now;
+                return;
+            }
+            var since = new Timestamp(polledUntil.getTime() - grace.toMillis());
+            var invalidations = jdbcTemplate.query(POLL_SQL,
+                    (rs, rowNum) -> new CacheInvalidation(rs.getString("cache_name"), rs.getString("cache_key")),
+                    since, now, nodeId);
+            invalidations.stream().distinct().forEach(invalidation -> listeners.forEach(listener -> listener.accept(invalidation)));
+            receivedCounter.increment(invalidations.size());
+            polledUntil = now;
+        } catch (RuntimeException e) {
+            log.error("Failed to poll cache invalidations: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${cache.invalidation.cleanup-interval:PT1M}")
+    public void deleteExpired() {
+        try {
+            jdbcTemplate.update("delete from cache_invalidation where created_at < ?",
+                    new Timestamp(databaseNow().getTime() - retention.toMillis()));
+        } catch (RuntimeException e) {
+            log.error("Failed to delete expired cache invalidations: {}", e.getMessage());
+        }
+    }
+
+    private Timestamp databaseNow() {
+        return jdbcTemplate.queryForObject("select current_timestamp(3)", Timestamp.class);
+    }
+}
@@ -0,0 +1,69 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.cache.CacheInvalidationBus;
+import com.taskmanagement.cache.InvalidatingCache;
+import com.taskmanagement.cache.InvalidatingCacheManager;
+import com.taskmanagement.tenant.TenantContext;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.actuate.metrics.cache.CaffeineCacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caches are Caffeine backed; size and TTL come from spring.cache.caffeine.spec. Evictions are
+ * applied locally after commit and broadcast to the other nodes through the {@link CacheInvalidationBus}.
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    public static final String TASKS = "tasks";
+    public static final String TASK_ASSIGNEES = "taskAssignees";
+    public static final String USER_SUMMARIES = "userSummaries";
+    public static final String TENANT_KEY_GENERATOR = "tenantKeyGenerator";
+
+    @Bean
+    public CacheManager cacheManager(CacheProperties cacheProperties, CacheInvalidationBus invalidationBus) {
+        var caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCacheSpecification(cacheProperties.getCaffeine().getSpec());
+        caffeineCacheManager.setCacheNames(cacheProperties.getCacheNames());
+        return new InvalidatingCacheManager(new TransactionAwareCacheManagerProxy(caffeineCacheManager), invalidationBus);
+    }
+
+    // Keeps the Caffeine cache metrics, which are not bound through the decorators otherwise
+    @Bean
+    public CacheMeterBinderProvider<InvalidatingCache> invalidatingCacheMeterBinderProvider() {
+        var caffeineProvider = new CaffeineCacheMeterBinderProvider();
+        return (cache, tags) -> cache.getTargetCache() instanceof TransactionAwareCacheDecorator decorator
+                && decorator.getTargetCache() instanceof CaffeineCache caffeineCache
+                ? caffeineProvider.getMeterBinder(caffeineCache, tags)
+                : null;
+    }
+
+    /**
+     * Key of the current tenant and the first argument of the method, which is the task id
+     * for every cached and evicting method, so reads and evictions agree on the key.
+     */
+    @Bean(TENANT_KEY_GENERATOR)
+    public KeyGenerator tenantKeyGenerator() {
+        return (target, method, params) -> tenantKey(params[0]);
+    }
+
+    public static String tenantKey(Object id) {
+        return tenantKey(TenantContext.getTenantId(), id);
+    }
+
+    public static String tenantKey(String tenantId, Object id) {
+        return tenantId + ":" + id;
+    }
+}
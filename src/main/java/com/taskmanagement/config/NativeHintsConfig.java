@@ -0,0 +1,56 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.dto.BatchResult;
+import com.taskmanagement.dto.CommentDto;
+import com.taskmanagement.dto.CursorPage;
+import com.taskmanagement.dto.InboxDto;
+import com.taskmanagement.dto.TaskChangeDto;
+import com.taskmanagement.dto.TaskDto;
+import com.taskmanagement.dto.TaskImportJobDto;
+import com.taskmanagement.dto.UserDto;
+import com.taskmanagement.dto.UserSummaryDto;
+import com.taskmanagement.entity.JwtResponse;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.data.domain.PageImpl;
+
+import java.util.List;
+
+/**
+ * Reflection hints for the AOT and native builds. Most controllers return ResponseEntity<?>,
+ * so the serialized types cannot be inferred from their signatures and are listed here.
+ */
+@Configuration
+@RegisterReflectionForBinding({BatchResult.class, CommentDto.class, CursorPage.class, InboxDto.class,
+        TaskChangeDto.class, TaskDto.class, TaskImportJobDto.class, UserDto.class, UserSummaryDto.class,
+        JwtResponse.class, PageImpl.class})
+@ImportRuntimeHints(NativeHintsConfig.JjwtRuntimeHints.class)
+public class NativeHintsConfig {
+
+    // jjwt 0.11 instantiates its implementation classes by name
+    static class JjwtRuntimeHints implements RuntimeHintsRegistrar {
+
+        private static final List<String> REFLECTIVE_TYPES = List.of(
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParser",
+                "io.jsonwebtoken.impl.DefaultClaims",
+                "io.jsonwebtoken.impl.DefaultHeader",
+                "io.jsonwebtoken.impl.DefaultJwsHeader",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (var type : REFLECTIVE_TYPES) {
+                hints.reflection().registerType(TypeReference.of(type),
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+            }
+        }
+    }
+}
@@ -1,40 +1,26 @@
 package com.taskmanagement.config;
 
-import io.swagger.v3.oas.models.Components;
-import io.swagger.v3.oas.models.OpenAPI;
-import io.swagger.v3.oas.models.info.Info;
-import io.swagger.v3.oas.models.security.SecurityRequirement;
-import io.swagger.v3.oas.models.security.SecurityScheme;
-import org.springframework.context.annotation.Bean;
+import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import io.swagger.v3.oas.annotations.enums.SecuritySchemeIn;
+import io.swagger.v3.oas.annotations.enums.SecuritySchemeType;
+import io.swagger.v3.oas.annotations.info.Info;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.security.SecurityScheme;
 import org.springframework.context.annotation.Configuration;
 
+// Annotations only, so this compiles and loads in builds without springdoc
 @Configuration
+@OpenAPIDefinition(
+        info = @Info(title = "Case Management Service", description = "Claim Event Information", version = "1.0"),
+        security = @SecurityRequirement(name = SwaggerConfig.SCHEME_NAME))
+@SecurityScheme(
+        name = SwaggerConfig.SCHEME_NAME,
+        type = SecuritySchemeType.HTTP,
+        scheme = "bearer",
+        bearerFormat = "JWT",
+        in = SecuritySchemeIn.HEADER)
 public class SwaggerConfig {
     //swagger 3
 
-    private static final String SCHEME_NAME = "bearerAuth";
-    private static final String BEARER_FORMAT = "JWT";
-    private static final String SCHEME = "bearer";
-
-    @Bean
-    public OpenAPI customOpenAPI() {
-        return new OpenAPI()
-                .addSecurityItem(new SecurityRequirement().addList(SCHEME_NAME))
-                .components(new Components()
-                        .addSecuritySchemes(SCHEME_NAME,
-                                new SecurityScheme()
-                                        .name(SCHEME_NAME)
-                                        .type(SecurityScheme.Type.HTTP)
-                                        .scheme(SCHEME)
-                                        .bearerFormat(BEARER_FORMAT)
-                                        .in(SecurityScheme.In.HEADER)
-                        )
-                )
-                .info(new Info()
-                        .title("Case Management Service")
-                        .description("Claim Event Information")
-                        .version("1.0")
-                );
-    }
+    static final String SCHEME_NAME = "bearerAuth";
 }
-
@@ -3,25 +3,35 @@ package com.taskmanagement.controller;
 import com.taskmanagement.dto.UserDto;
 import com.taskmanagement.entity.JwtRequest;
 import com.taskmanagement.entity.JwtResponse;
+import com.taskmanagement.entity.RefreshTokenRequest;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.exception.InvalidRefreshTokenException;
 import com.taskmanagement.security.JwtUtils;
+import com.taskmanagement.security.PasswordHashingExecutor;
+import com.taskmanagement.service.RefreshTokenService;
 import com.taskmanagement.service.UserService;
+import com.taskmanagement.tenant.TenantContext;
+import com.taskmanagement.tenant.TenantRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/auth")
@@ -30,60 +40,133 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final JwtUtils jwtUtils;
     private final UserService userService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final RefreshTokenService refreshTokenService;
+    private final TenantRegistry tenantRegistry;
 
     @Autowired
-    public AuthController(AuthenticationManager authenticationManager, JwtUtils jwtUtils, UserService userService) {
+    public AuthController(AuthenticationManager authenticationManager, JwtUtils jwtUtils, UserService userService,
+                          PasswordHashingExecutor passwordHashingExecutor, RefreshTokenService refreshTokenService,
+                          TenantRegistry tenantRegistry) {
         this.authenticationManager = authenticationManager;
         this.jwtUtils = jwtUtils;
         this.userService = userService;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.refreshTokenService = refreshTokenService;
+        this.tenantRegistry = tenantRegistry;
     }
 
     @Operation(summary = "Authenticate user and generate JWT token")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Authentication successful"),
-            @ApiResponse(responseCode = "401", description = "Authentication failed")
+            @ApiResponse(responseCode = "401", description = "Authentication failed"),
+            @ApiResponse(responseCode = "503", description = "Too many concurrent logins")
     })
     @PostMapping("/login")
-    public ResponseEntity<?> authenticateUser(
+    public CompletableFuture<ResponseEntity<?>> authenticateUser(
             @Parameter(description = "User login request with email and password")
             @RequestBody JwtRequest loginRequest) {
-        try {
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword()));
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String jwt = jwtUtils.generateToken(userDetails);
+        return passwordHashingExecutor.submit(() -> authenticationManager.authenticate(
+                        new UsernamePasswordAuthenticationToken(loginRequest.getEmail(), loginRequest.getPassword())))
+                .<ResponseEntity<?>>thenApply(authentication -> {
+                    User user = (User) authentication.getPrincipal();
+                    String jwt = jwtUtils.generateToken(user);
+                    String refreshToken = refreshTokenService.issue(user.getId());
 
-            log.info("User '{}' authenticated successfully", loginRequest.getEmail());
-            return ResponseEntity.ok(new JwtResponse(jwt));
-        } catch (BadCredentialsException | DisabledException e) {
-            log.error("Authentication failed for user '{}': {}", loginRequest.getEmail(), e.getMessage());
+                    log.info("User '{}' authenticated successfully", loginRequest.getEmail());
+                    return ResponseEntity.ok(new JwtResponse(jwt, refreshToken));
+                })
+                .exceptionally(throwable -> {
+                    var e = unwrap(throwable);
+                    log.error("Authentication failed for user '{}': {}", loginRequest.getEmail(), e.getMessage());
+                    if (e instanceof BadCredentialsException || e instanceof DisabledException) {
+                        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+                    }
+                    if (e instanceof RejectedExecutionException) {
+                        return serviceBusy();
+                    }
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An unexpected error occurred. Please try again later.");
+                });
+    }
+
+    @Operation(summary = "Exchange a refresh token for a new access token")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tokens refreshed successfully"),
+            @ApiResponse(responseCode = "401", description = "Refresh token invalid, expired or revoked")
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refreshToken(
+            @Parameter(description = "Refresh token issued at login or by a previous refresh")
+            @RequestBody RefreshTokenRequest refreshRequest) {
+        try {
+            JwtResponse tokens = refreshTokenService.refresh(refreshRequest.getRefreshToken());
+            return ResponseEntity.ok(tokens);
+        } catch (InvalidRefreshTokenException e) {
+            log.error("Token refresh failed: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
         } catch (Exception e) {
-            log.error("Authentication failed for user '{}': {}", loginRequest.getEmail(), e.getMessage());
+            log.error("Token refresh failed: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An unexpected error occurred. Please try again later.");
         }
     }
 
+    @Operation(summary = "Revoke a refresh token")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Refresh token revoked")
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody RefreshTokenRequest refreshRequest) {
+        try {
+            refreshTokenService.revoke(refreshRequest.getRefreshToken());
+        } catch (InvalidRefreshTokenException e) {
+            log.error("Logout with invalid refresh token: {}", e.getMessage());
+        }
+        return ResponseEntity.noContent().build();
+    }
+
     @Operation(summary = "Register a new user")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "User registered successfully"),
-            @ApiResponse(responseCode = "400", description = "Registration failed due to invalid input")
+            @ApiResponse(responseCode = "400", description = "Registration failed due to invalid input"),
+            @ApiResponse(responseCode = "403", description = "Tenant is not open for registration"),
+            @ApiResponse(responseCode = "503", description = "Too many concurrent registrations")
     })
     @PostMapping("/register")
-    public ResponseEntity<?> registerUser(
+    public CompletableFuture<ResponseEntity<?>> registerUser(
             @Parameter(description = "User registration details")
             @RequestBody UserDto userDto) {
-        try {
-            UserDto registeredUser = userService.createUser(userDto);
-            log.info("User '{}' registered successfully", userDto.getEmail());
-            return ResponseEntity.status(HttpStatus.CREATED).body(registeredUser);
-        } catch (DataIntegrityViolationException e) {
-            log.error("Registration failed for user '{}': Email already in use", userDto.getEmail());
-            return ResponseEntity.status(HttpStatus.CONFLICT).body("Email already in use. Please choose a different email.");
-        } catch (Exception e) {
-            log.error("Registration failed for user '{}': {}", userDto.getEmail(), e.getMessage());
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An unexpected error occurred. Please try again later.");
+        // closed tenants only gain members added by an existing member through /api/users
+        if (!tenantRegistry.allowsRegistration(TenantContext.getTenantId())) {
+            log.error("Registration refused for user '{}': tenant {} is not open for registration", userDto.getEmail(), TenantContext.getTenantId());
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.FORBIDDEN).body("Registration is not open for this tenant."));
         }
+        return userService.createUser(userDto)
+                .<ResponseEntity<?>>thenApply(registeredUser -> {
+                    log.info("User '{}' registered successfully", userDto.getEmail());
+                    return ResponseEntity.status(HttpStatus.CREATED).body(registeredUser);
+                })
+                .exceptionally(throwable -> {
+                    var e = unwrap(throwable);
+                    if (e instanceof DataIntegrityViolationException) {
+                        log.error("Registration failed for user '{}': Email already in use", userDto.getEmail());
+                        return ResponseEntity.status(HttpStatus.CONFLICT).body("Email already in use. Please choose a different email.");
+                    }
+                    log.error("Registration failed for user '{}': {}", userDto.getEmail(), e.getMessage());
+                    if (e instanceof RejectedExecutionException) {
+                        return serviceBusy();
+                    }
+                    return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("An unexpected error occurred. Please try again later.");
+                });
+    }
+
+    private static ResponseEntity<?> serviceBusy() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body("Server is busy. Please try again later.");
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
     }
 }
 
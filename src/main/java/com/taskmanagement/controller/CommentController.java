@@ -1,7 +1,11 @@
 package com.taskmanagement.controller;
 
+import com.taskmanagement.batch.RequestLoaders;
+import com.taskmanagement.dto.BatchResult;
 import com.taskmanagement.dto.CommentDto;
+import com.taskmanagement.dto.CursorPage;
 import com.taskmanagement.exception.CommentNotFoundException;
+import com.taskmanagement.service.BatchReadService;
 import com.taskmanagement.service.CommentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -16,6 +20,7 @@ import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 @Slf4j
@@ -24,9 +29,11 @@ import java.util.Map;
 public class CommentController {
 
     private final CommentService commentService;
+    private final RequestLoaders requestLoaders;
 
-    public CommentController(CommentService commentService) {
+    public CommentController(CommentService commentService, RequestLoaders requestLoaders) {
         this.commentService = commentService;
+        this.requestLoaders = requestLoaders;
     }
 
     @Operation(summary = "Create a new comment")
@@ -49,6 +56,24 @@ public class CommentController {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
         }
     }
+    @Operation(summary = "Create several comments at once")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Comments created successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<Object> createComments(@RequestBody List<CommentDto> commentDtos) {
+        try {
+            var createdComments = commentService.createComments(commentDtos);
+            log.info("Created {} comments in batch", createdComments.size());
+            return ResponseEntity.status(HttpStatus.CREATED).body(createdComments);
+        } catch (Exception e) {
+            var errorMessage = "Failed to create comments: " + e.getMessage();
+            log.error(errorMessage);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", errorMessage));
+        }
+    }
+
     @Operation(summary = "Update an existing comment")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Comment updated successfully"),
@@ -128,6 +153,27 @@ public class CommentController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "Get the comment timeline of a task using cursors")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fetched comments successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
+    @GetMapping("/task/{taskId}/timeline")
+    public ResponseEntity<?> getCommentTimeline(
+            @PathVariable Long taskId,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String before,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            CursorPage<CommentDto> timeline = commentService.getCommentTimeline(taskId, after, before, size);
+            return ResponseEntity.ok(timeline);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid timeline request for task with id {}: {}", taskId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @Operation(summary = "Get comments by user")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Fetched comments successfully"),
@@ -146,5 +192,22 @@ public class CommentController {
         log.info("Fetched comments for user with id: {}: {}", userId, comments.getContent());
         return ResponseEntity.ok(response);
     }
-}
 
+    @Operation(summary = "Get several comments by id in one call")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fetched comments successfully"),
+            @ApiResponse(responseCode = "400", description = "No ids or too many ids")
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<?> getCommentsByIds(@RequestParam List<Long> ids) {
+        try {
+            var distinctIds = BatchReadService.normalizeIds(ids);
+            BatchResult<CommentDto> result = BatchResult.of(distinctIds, requestLoaders.comments().loadAll(distinctIds));
+            log.info("Fetched {} of {} comments by id", result.getItems().size(), distinctIds.size());
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid batch comment request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
+        }
+    }
+}
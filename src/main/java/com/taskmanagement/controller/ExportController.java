@@ -0,0 +1,80 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.export.ExportFormat;
+import com.taskmanagement.service.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/export")
+public class ExportController {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ExportService exportService;
+
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @FunctionalInterface
+    private interface Export {
+        long writeTo(OutputStream out, ExportFormat format) throws IOException;
+    }
+
+    @Operation(summary = "Stream all tasks as CSV, NDJSON or columnar binary")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tasks streamed successfully"),
+            @ApiResponse(responseCode = "400", description = "Unknown format")
+    })
+    @GetMapping("/tasks")
+    public void exportTasks(@RequestParam(defaultValue = "CSV") ExportFormat format,
+                            @RequestParam(defaultValue = "false") boolean gzip,
+                            HttpServletResponse response) throws IOException {
+        stream("tasks", format, gzip, response, exportService::exportTasks);
+    }
+
+    @Operation(summary = "Stream all comments as CSV, NDJSON or columnar binary")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Comments streamed successfully"),
+            @ApiResponse(responseCode = "400", description = "Unknown format")
+    })
+    @GetMapping("/comments")
+    public void exportComments(@RequestParam(defaultValue = "CSV") ExportFormat format,
+                               @RequestParam(defaultValue = "false") boolean gzip,
+                               HttpServletResponse response) throws IOException {
+        stream("comments", format, gzip, response, exportService::exportComments);
+    }
+
+    // Once the first bytes are sent the status cannot change, so a failure midway only ends the stream
+    private void stream(String name, ExportFormat format, boolean gzip, HttpServletResponse response, Export export) throws IOException {
+        var filename = name + "." + format.getExtension() + (gzip ? ".gz" : "");
+        response.setContentType(gzip ? "application/gzip" : format.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+
+        long started = System.currentTimeMillis();
+        var buffered = new BufferedOutputStream(response.getOutputStream(), BUFFER_SIZE);
+        try (OutputStream out = gzip ? new GZIPOutputStream(buffered, BUFFER_SIZE) : buffered) {
+            long rows = export.writeTo(out, format);
+            log.info("Exported {} {} as {} in {} ms", rows, name, filename, System.currentTimeMillis() - started);
+        } catch (IOException | RuntimeException e) {
+            log.error("Export of {} failed: {}", name, e.getMessage());
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.dto.CommentDto;
+import com.taskmanagement.dto.TaskDto;
+import com.taskmanagement.dto.UserSummaryDto;
+import com.taskmanagement.security.AuthenticatedUser;
+import com.taskmanagement.service.BatchReadService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.stereotype.Controller;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * GraphQL read API. Root fields reuse the batch reads of the REST endpoints, and every
+ * relationship field is a {@link BatchMapping}, so each level of a query costs one lookup
+ * per field instead of one per parent.
+ */
+@Slf4j
+@Controller
+public class GraphQlController {
+
+    public static final int COMMENTS_PER_TASK = 20;
+
+    private final BatchReadService batchReadService;
+
+    public GraphQlController(BatchReadService batchReadService) {
+        this.batchReadService = batchReadService;
+    }
+
+    @QueryMapping
+    public TaskDto task(@Argument Long id) {
+        return batchReadService.findTasks(List.of(id)).get(id);
+    }
+
+    @QueryMapping
+    public List<TaskDto> tasks(@Argument List<Long> ids) {
+        var found = batchReadService.findTasks(BatchReadService.normalizeIds(ids));
+        return ids.stream().map(found::get).toList();
+    }
+
+    @QueryMapping
+    public UserSummaryDto user(@Argument Long id) {
+        return batchReadService.findUsers(List.of(id)).get(id);
+    }
+
+    @QueryMapping
+    public List<UserSummaryDto> users(@Argument List<Long> ids) {
+        var found = batchReadService.findUsers(BatchReadService.normalizeIds(ids));
+        return ids.stream().map(found::get).toList();
+    }
+
+    @QueryMapping
+    public CommentDto comment(@Argument Long id) {
+        return batchReadService.findComments(List.of(id)).get(id);
+    }
+
+    @QueryMapping
+    public List<CommentDto> comments(@Argument List<Long> ids) {
+        var found = batchReadService.findComments(BatchReadService.normalizeIds(ids));
+        return ids.stream().map(found::get).toList();
+    }
+
+    @QueryMapping
+    public UserSummaryDto me(@AuthenticationPrincipal AuthenticatedUser user) {
+        return batchReadService.findUsers(List.of(user.id())).get(user.id());
+    }
+
+    @BatchMapping(typeName = "Task")
+    public Map<TaskDto, UserSummaryDto> author(List<TaskDto> tasks) {
+        return usersOf(tasks, TaskDto::getAuthorId);
+    }
+
+    @BatchMapping(typeName = "Task")
+    public Map<TaskDto, UserSummaryDto> assignee(List<TaskDto> tasks) {
+        return usersOf(tasks, TaskDto::getAssigneeId);
+    }
+
+    @BatchMapping(typeName = "Task", field = "comments")
+    public Map<TaskDto, List<CommentDto>> taskComments(List<TaskDto> tasks) {
+        var byTask = batchReadService.findFirstCommentsByTaskIds(idsOf(tasks, TaskDto::getId), COMMENTS_PER_TASK);
+        return byParent(tasks, task -> byTask.getOrDefault(task.getId(), List.of()));
+    }
+
+    @BatchMapping(typeName = "Task")
+    public Map<TaskDto, Long> commentCount(List<TaskDto> tasks) {
+        var counts = batchReadService.countCommentsByTaskIds(idsOf(tasks, TaskDto::getId));
+        return byParent(tasks, task -> counts.getOrDefault(task.getId(), 0L));
+    }
+
+    @BatchMapping(typeName = "Task")
+    public Map<TaskDto, CommentDto> latestComment(List<TaskDto> tasks) {
+        var latest = batchReadService.findLatestCommentsByTaskIds(idsOf(tasks, TaskDto::getId));
+        return byParent(tasks, task -> latest.get(task.getId()));
+    }
+
+    @BatchMapping(typeName = "Comment")
+    public Map<CommentDto, TaskDto> task(List<CommentDto> comments) {
+        var tasks = batchReadService.findTasks(idsOf(comments, CommentDto::getTaskId));
+        return byParent(comments, comment -> tasks.get(comment.getTaskId()));
+    }
+
+    @BatchMapping(typeName = "Comment", field = "author")
+    public Map<CommentDto, UserSummaryDto> commentAuthor(List<CommentDto> comments) {
+        return usersOf(comments, CommentDto::getAuthorId);
+    }
+
+    @SchemaMapping(typeName = "Comment")
+    public String createdAt(CommentDto comment) {
+        return comment.getCreatedAt() != null ? comment.getCreatedAt().toString() : null;
+    }
+
+    private <P> Map<P, UserSummaryDto> usersOf(List<P> parents, Function<P, Long> userId) {
+        var users = batchReadService.findUsers(idsOf(parents, userId));
+        return byParent(parents, parent -> users.get(userId.apply(parent)));
+    }
+
+    private static <P> List<Long> idsOf(List<P> parents, Function<P, Long> id) {
+        return parents.stream().map(id).filter(Objects::nonNull).distinct().toList();
+    }
+
+    // Parents without a value are left out, which GraphQL resolves to null
+    private static <P, V> Map<P, V> byParent(List<P> parents, Function<P, V> value) {
+        var result = new HashMap<P, V>();
+        for (var parent : parents) {
+            var v = value.apply(parent);
+            if (v != null) {
+                result.put(parent, v);
+            }
+        }
+        return result;
+    }
+}
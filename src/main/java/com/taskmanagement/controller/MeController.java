@@ -0,0 +1,50 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.dto.InboxDto;
+import com.taskmanagement.security.AuthenticatedUser;
+import com.taskmanagement.service.InboxService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/me")
+public class MeController {
+
+    private final InboxService inboxService;
+
+    public MeController(InboxService inboxService) {
+        this.inboxService = inboxService;
+    }
+
+    @Operation(summary = "Get the inbox of the authenticated user")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fetched inbox successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid inbox size")
+    })
+    @GetMapping("/inbox")
+    public ResponseEntity<?> getInbox(
+            @Parameter(hidden = true) @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            InboxDto inbox = inboxService.getInbox(user.id(), size);
+            return ResponseEntity.ok(inbox);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid inbox request for user with id {}: {}", user.id(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+}
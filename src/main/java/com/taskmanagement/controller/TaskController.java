@@ -1,25 +1,41 @@
 package com.taskmanagement.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.taskmanagement.batch.RequestLoaders;
+import com.taskmanagement.dto.BatchResult;
+import com.taskmanagement.dto.CursorPage;
+import com.taskmanagement.dto.TaskChangeDto;
 import com.taskmanagement.dto.TaskDto;
+import com.taskmanagement.dto.TaskImportJobDto;
 import com.taskmanagement.entity.Priority;
 import com.taskmanagement.entity.Status;
 import com.taskmanagement.exception.TaskNotFoundException;
+import com.taskmanagement.exception.TaskVersionConflictException;
 import com.taskmanagement.exception.UserNotFoundException;
+import com.taskmanagement.service.BatchReadService;
+import com.taskmanagement.service.TaskHistoryService;
+import com.taskmanagement.service.TaskImportService;
 import com.taskmanagement.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.net.URI;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @RestController
@@ -27,9 +43,16 @@ import java.util.Map;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskHistoryService taskHistoryService;
+    private final TaskImportService taskImportService;
+    private final RequestLoaders requestLoaders;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskHistoryService taskHistoryService, TaskImportService taskImportService,
+                          RequestLoaders requestLoaders) {
         this.taskService = taskService;
+        this.taskHistoryService = taskHistoryService;
+        this.taskImportService = taskImportService;
+        this.requestLoaders = requestLoaders;
     }
 
     @Operation(summary = "Create a new task")
@@ -52,10 +75,55 @@ public class TaskController {
         }
     }
 
+    @Operation(summary = "Import tasks in bulk from a CSV or NDJSON upload")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Import started, progress available at the Location header"),
+            @ApiResponse(responseCode = "400", description = "Unsupported content type"),
+            @ApiResponse(responseCode = "503", description = "Too many imports running")
+    })
+    @PostMapping(value = "/import", consumes = {TaskImportService.CSV, TaskImportService.NDJSON})
+    public ResponseEntity<?> importTasks(HttpServletRequest request) {
+        try {
+            var mediaType = MediaType.parseMediaType(request.getContentType());
+            TaskImportJobDto job = taskImportService.startImport(request.getInputStream(),
+                    mediaType.getType() + "/" + mediaType.getSubtype());
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/tasks/import/" + job.getJobId()))
+                    .body(job);
+        } catch (IllegalArgumentException e) {
+            log.error("Rejected task import: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
+        } catch (RejectedExecutionException e) {
+            log.warn("Task import rejected, too many imports running");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "60")
+                    .body(Map.of("error", "Too many imports running"));
+        } catch (IOException e) {
+            log.error("Failed to receive task import upload: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("error", "An unexpected error occurred"));
+        }
+    }
+
+    @Operation(summary = "Get the progress and error report of a task import")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fetched import job successfully"),
+            @ApiResponse(responseCode = "404", description = "Import job not found")
+    })
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<?> getImportJob(@PathVariable String jobId) {
+        return taskImportService.getJob(jobId)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(Map.of("error", "Import job not found")));
+    }
+
     @Operation(summary = "Update an existing task")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Task updated successfully"),
-            @ApiResponse(responseCode = "404", description = "Task not found")
+            @ApiResponse(responseCode = "404", description = "Task not found"),
+            @ApiResponse(responseCode = "409", description = "Task was modified concurrently")
     })
     @PutMapping("/{id}")
     public ResponseEntity<String> updateTask(@PathVariable Long id, @RequestBody TaskDto taskDto) {
@@ -66,6 +134,9 @@ public class TaskController {
         } catch (TaskNotFoundException e) {
             log.error("Task not found with ID {}: {}", id, e.getMessage());
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Task not found with ID: " + id);
+        } catch (TaskVersionConflictException e) {
+            log.warn("Conflicting update of task with ID {}, current version {}", id, e.getCurrentVersion());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Task was modified concurrently, current version: " + e.getCurrentVersion());
         } catch (UserNotFoundException e) {
             log.error("User not found: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("User not found: " + e.getMessage());
@@ -75,6 +146,54 @@ public class TaskController {
         }
     }
 
+    @Operation(summary = "Partially update a task with a JSON merge patch")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Task patched successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid patch"),
+            @ApiResponse(responseCode = "404", description = "Task not found"),
+            @ApiResponse(responseCode = "409", description = "Task was modified concurrently")
+    })
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> patchTask(@PathVariable Long id,
+                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                       @RequestBody JsonNode patch) {
+        try {
+            var patchedTask = taskService.patchTask(id, patch, parseVersion(ifMatch));
+            return ResponseEntity.ok()
+                    .eTag(String.valueOf(patchedTask.getVersion()))
+                    .body(patchedTask);
+        } catch (TaskVersionConflictException e) {
+            log.warn("Conflicting patch of task with ID {}, current version {}", id, e.getCurrentVersion());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .eTag(String.valueOf(e.getCurrentVersion()))
+                    .body(Map.of("error", e.getMessage(), "currentVersion", e.getCurrentVersion()));
+        } catch (TaskNotFoundException e) {
+            log.error("Task with ID {} not found: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(Map.of("error", "Task not found"));
+        } catch (UserNotFoundException | IllegalArgumentException e) {
+            log.error("Invalid patch for task with ID {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // If-Match carries the version as an entity tag: "3" or W/"3"
+    private static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        var tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.valueOf(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("If-Match must carry the task version");
+        }
+    }
+
     @Operation(summary = "Delete a task")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Task deleted successfully"),
@@ -114,6 +233,26 @@ public class TaskController {
         }
     }
 
+    @Operation(summary = "Get the change history of a task, newest first")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fetched history successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
+    @GetMapping("/{id}/history")
+    public ResponseEntity<?> getTaskHistory(
+            @PathVariable Long id,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            CursorPage<TaskChangeDto> history = taskHistoryService.getHistory(id, after, size);
+            return ResponseEntity.ok(history);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid history request for task with id {}: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", e.getMessage()));
+        }
+    }
+
     @Operation(summary = "Get tasks by assignee")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Fetched tasks successfully"),
@@ -123,11 +262,12 @@ public class TaskController {
     public ResponseEntity<?> getTasksByAssignee(
             @PathVariable Long assigneeId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
         log.info("Fetching tasks for assignee with id: {}, page: {}, size: {}", assigneeId, page, size);
         try {
             var pageable = PageRequest.of(page, size);
-            var tasks = taskService.getTasksByAssignee(assigneeId, pageable);
+            var tasks = taskService.getTasksByAssignee(assigneeId, pageable, includeArchived);
             log.info("Fetched {} tasks for assignee with id: {}", tasks.getTotalElements(), assigneeId);
             return ResponseEntity.ok(tasks);
         } catch (TaskNotFoundException e) {
@@ -173,11 +313,12 @@ public class TaskController {
     public ResponseEntity<?> getTasksByStatus(
             @RequestParam Status status,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
         try {
             log.info("Fetching tasks with status: {}, page: {}, size: {}", status, page, size);
             var pageable = PageRequest.of(page, size);
-            var tasks = taskService.getTasksByStatus(status, pageable);
+            var tasks = taskService.getTasksByStatus(status, pageable, includeArchived);
             log.info("Fetched {} tasks with status: {}", tasks.getTotalElements(), status);
             return ResponseEntity.ok(tasks);
         } catch (TaskNotFoundException e) {
@@ -200,11 +341,12 @@ public class TaskController {
     public ResponseEntity<?> getTasksByPriority(
             @RequestParam Priority priority,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
         try {
             log.info("Fetching tasks with priority: {}, page: {}, size: {}", priority, page, size);
             Pageable pageable = PageRequest.of(page, size);
-            Page<TaskDto> tasks = taskService.getTasksByPriority(priority, pageable);
+            Page<TaskDto> tasks = taskService.getTasksByPriority(priority, pageable, includeArchived);
             log.info("Fetched {} tasks with priority: {}", tasks.getTotalElements(), priority);
             return ResponseEntity.ok(tasks);
         } catch (TaskNotFoundException e) {
@@ -228,11 +370,12 @@ public class TaskController {
     public ResponseEntity<Map<String, Object>> getTasksByUser(
             @PathVariable Long userId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
         log.info("Fetching tasks for user with id: {}, page: {}, size: {}", userId, page, size);
         try {
             Pageable pageable = PageRequest.of(page, size);
-            Page<TaskDto> tasksPage = taskService.getTasksByUser(userId, pageable);
+            Page<TaskDto> tasksPage = taskService.getTasksByUser(userId, pageable, includeArchived);
 
             if (tasksPage.getTotalElements() == 0) {
                 return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -255,7 +398,8 @@ public class TaskController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Task status updated successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid status value"),
-            @ApiResponse(responseCode = "404", description = "Task not found")
+            @ApiResponse(responseCode = "404", description = "Task not found"),
+            @ApiResponse(responseCode = "409", description = "Task was modified concurrently")
     })
     @PatchMapping("/{taskId}/status")
     public ResponseEntity<?> updateTaskStatus(
@@ -265,6 +409,10 @@ public class TaskController {
             var updatedTask = taskService.updateTaskStatus(taskId, status);
             log.info("Updated status for task with ID: {}", updatedTask.getId());
             return ResponseEntity.ok(updatedTask);
+        } catch (TaskVersionConflictException e) {
+            log.warn("Conflicting status update of task with ID {}, current version {}", taskId, e.getCurrentVersion());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", e.getMessage(), "currentVersion", e.getCurrentVersion()));
         } catch (IllegalArgumentException e) {
             log.error("Invalid status value provided: {}", status);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -290,5 +438,21 @@ public class TaskController {
 
     }
 
+    @Operation(summary = "Get several tasks by id in one call")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fetched tasks successfully"),
+            @ApiResponse(responseCode = "400", description = "No ids or too many ids")
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<?> getTasksByIds(@RequestParam List<Long> ids) {
+        try {
+            var distinctIds = BatchReadService.normalizeIds(ids);
+            BatchResult<TaskDto> result = BatchResult.of(distinctIds, requestLoaders.tasks().loadAll(distinctIds));
+            log.info("Fetched {} of {} tasks by id", result.getItems().size(), distinctIds.size());
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid batch task request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
+        }
+    }
 }
-
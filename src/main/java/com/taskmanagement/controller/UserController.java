@@ -1,6 +1,11 @@
 package com.taskmanagement.controller;
 
+import com.taskmanagement.batch.RequestLoaders;
+import com.taskmanagement.dto.BatchResult;
+import com.taskmanagement.dto.CursorPage;
 import com.taskmanagement.dto.UserDto;
+import com.taskmanagement.dto.UserSummaryDto;
+import com.taskmanagement.service.BatchReadService;
 import com.taskmanagement.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,6 +16,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @RestController
@@ -18,43 +27,53 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final RequestLoaders requestLoaders;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, RequestLoaders requestLoaders) {
         this.userService = userService;
+        this.requestLoaders = requestLoaders;
     }
 
     @Operation(summary = "Create a new user")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "User created successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid input")
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "503", description = "Too many concurrent registrations")
     })
     @PostMapping
-    public ResponseEntity<UserDto> createUser(@RequestBody UserDto userDto) {
-        try {
-            UserDto createdUser = userService.createUser(userDto);
-            log.info("User created successfully: {}", createdUser);
-            return ResponseEntity.status(HttpStatus.CREATED).body(createdUser);
-        } catch (Exception e) {
-            log.error("Failed to create user: {}", e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
-        }
+    public CompletableFuture<ResponseEntity<UserDto>> createUser(@RequestBody UserDto userDto) {
+        return userService.createUser(userDto)
+                .thenApply(createdUser -> {
+                    log.info("User created successfully: {}", createdUser);
+                    return ResponseEntity.status(HttpStatus.CREATED).body(createdUser);
+                })
+                .exceptionally(throwable -> {
+                    var e = unwrap(throwable);
+                    log.error("Failed to create user: {}", e.getMessage());
+                    var status = e instanceof RejectedExecutionException ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.BAD_REQUEST;
+                    return ResponseEntity.status(status).build();
+                });
     }
 
     @Operation(summary = "Update an existing user")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User updated successfully"),
-            @ApiResponse(responseCode = "404", description = "User not found")
+            @ApiResponse(responseCode = "404", description = "User not found"),
+            @ApiResponse(responseCode = "503", description = "Too many concurrent password changes")
     })
     @PutMapping("/{id}")
-    public ResponseEntity<UserDto> updateUser(@PathVariable Long id, @RequestBody UserDto userDto) {
-        try {
-            UserDto updatedUser = userService.updateUserById(id, userDto);
-            log.info("User updated successfully: {}", updatedUser);
-            return ResponseEntity.ok(updatedUser);
-        } catch (Exception e) {
-            log.error("Failed to update user with ID {}: {}", id, e.getMessage());
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
-        }
+    public CompletableFuture<ResponseEntity<UserDto>> updateUser(@PathVariable Long id, @RequestBody UserDto userDto) {
+        return userService.updateUserById(id, userDto)
+                .thenApply(updatedUser -> {
+                    log.info("User updated successfully: {}", updatedUser);
+                    return ResponseEntity.ok(updatedUser);
+                })
+                .exceptionally(throwable -> {
+                    var e = unwrap(throwable);
+                    log.error("Failed to update user with ID {}: {}", id, e.getMessage());
+                    var status = e instanceof RejectedExecutionException ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.NOT_FOUND;
+                    return ResponseEntity.status(status).build();
+                });
     }
 
     @Operation(summary = "Delete a user")
@@ -91,15 +110,45 @@ public class UserController {
         }
     }
 
-    @Operation(summary = "Get all users")
+    @Operation(summary = "Get a page of the user directory, optionally filtered by name or email prefix")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Fetched all users successfully")
+            @ApiResponse(responseCode = "200", description = "Fetched users successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
     })
     @GetMapping
-    public ResponseEntity<List<UserDto>> getAllUsers() {
-        log.info("Fetching all users");
-        List<UserDto> users = userService.getAllUsers();
-        log.info("Fetched {} users", users.size());
-        return ResponseEntity.ok(users);
+    public ResponseEntity<?> getUsers(
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            CursorPage<UserSummaryDto> users = userService.getUserDirectory(after, q, size);
+            log.info("Fetched {} users", users.getItems().size());
+            return ResponseEntity.ok(users);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid user directory request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "Get several users by id in one call")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fetched users successfully"),
+            @ApiResponse(responseCode = "400", description = "No ids or too many ids")
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<?> getUsersByIds(@RequestParam List<Long> ids) {
+        try {
+            var distinctIds = BatchReadService.normalizeIds(ids);
+            BatchResult<UserSummaryDto> result = BatchResult.of(distinctIds, requestLoaders.users().loadAll(distinctIds));
+            log.info("Fetched {} of {} users by id", result.getItems().size(), distinctIds.size());
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            log.error("Invalid batch user request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
     }
 }
@@ -0,0 +1,26 @@
+package com.taskmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "Entities fetched by id in one call")
+public class BatchResult<T> {
+
+    @Schema(description = "Entities found, in the order of the requested ids")
+    private List<T> items;
+
+    @Schema(description = "Requested ids that were not found")
+    private List<Long> missingIds;
+
+    public static <T> BatchResult<T> of(Collection<Long> ids, Map<Long, T> found) {
+        return new BatchResult<>(List.copyOf(found.values()),
+                ids.stream().filter(id -> !found.containsKey(id)).toList());
+    }
+}
@@ -6,6 +6,7 @@ import com.taskmanagement.entity.User;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
 
+import java.time.Instant;
 import java.util.Objects;
 
 @Data
@@ -24,6 +25,9 @@ public class CommentDto {
     @Schema(description = "ID of the author of the comment", example = "5")
     private Long authorId;
 
+    @Schema(description = "Creation time of the comment", example = "2024-08-01T10:15:30Z")
+    private Instant createdAt;
+
     public static CommentDto mapEntityToDto(Comment comment) {
         Objects.requireNonNull(comment, "Comment entity cannot be null");
         CommentDto commentDto = new CommentDto();
@@ -31,6 +35,7 @@ public class CommentDto {
         commentDto.setContent(comment.getContent());
         commentDto.setTaskId(comment.getTask().getId());
         commentDto.setAuthorId(comment.getAuthor().getId());
+        commentDto.setCreatedAt(comment.getCreatedAt());
         return commentDto;
     }
 
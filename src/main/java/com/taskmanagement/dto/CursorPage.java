@@ -0,0 +1,41 @@
+package com.taskmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@Schema(description = "Page of results addressed by opaque cursors instead of offsets")
+public class CursorPage<T> {
+
+    @Schema(description = "Items of the page")
+    private List<T> items;
+
+    @Schema(description = "Cursor to pass as 'after' to get the next page, absent on the last page")
+    private String nextCursor;
+
+    @Schema(description = "Cursor to pass as 'before' to get the previous page, absent on the first page")
+    private String previousCursor;
+
+    public static String encodeCursor(Long id) {
+        var bytes = ByteBuffer.allocate(Long.BYTES).putLong(id).array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public static Long decodeCursor(String cursor) {
+        try {
+            var bytes = Base64.getUrlDecoder().decode(cursor);
+            if (bytes.length != Long.BYTES) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return ByteBuffer.wrap(bytes).getLong();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.taskmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "Inbox of the authenticated user: assigned and authored tasks with comment previews")
+public class InboxDto {
+
+    @Schema(description = "Most recent tasks assigned to the user")
+    private List<InboxTaskDto> assigned;
+
+    @Schema(description = "Total number of tasks assigned to the user", example = "42")
+    private long assignedTotal;
+
+    @Schema(description = "Most recent tasks authored by the user")
+    private List<InboxTaskDto> authored;
+
+    @Schema(description = "Total number of tasks authored by the user", example = "17")
+    private long authoredTotal;
+}
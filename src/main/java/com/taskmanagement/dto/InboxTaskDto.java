@@ -0,0 +1,18 @@
+package com.taskmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+@Data
+@Schema(description = "Task of an inbox with its comment count and latest comment")
+public class InboxTaskDto {
+
+    @Schema(description = "The task")
+    private TaskDto task;
+
+    @Schema(description = "Number of comments on the task", example = "3")
+    private long commentCount;
+
+    @Schema(description = "Latest comment of the task, content shortened to a preview; absent without comments")
+    private CommentDto latestComment;
+}
@@ -0,0 +1,43 @@
+package com.taskmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Schema(description = "Change made to a task")
+public class TaskChangeDto {
+
+    @Schema(description = "Unique identifier of the change", example = "1")
+    private Long id;
+
+    @Schema(description = "ID of the changed task", example = "10")
+    private Long taskId;
+
+    @Schema(description = "ID of the user who made the change, absent for system changes", example = "5")
+    private Long actorId;
+
+    @Schema(description = "Time of the change", example = "2024-08-01T10:15:30Z")
+    private Instant changedAt;
+
+    @Schema(description = "Fields that changed")
+    private List<FieldChange> changes;
+
+    @Data
+    @AllArgsConstructor
+    @Schema(description = "Old and new value of a changed field")
+    public static class FieldChange {
+
+        @Schema(description = "Name of the field", example = "status")
+        private String field;
+
+        @Schema(description = "Value before the change", example = "PENDING")
+        private String oldValue;
+
+        @Schema(description = "Value after the change", example = "IN_PROGRESS")
+        private String newValue;
+    }
+}
@@ -1,5 +1,6 @@
 package com.taskmanagement.dto;
 
+import com.taskmanagement.entity.ArchivedTask;
 import com.taskmanagement.entity.Priority;
 import com.taskmanagement.entity.Status;
 import com.taskmanagement.entity.Task;
@@ -24,6 +25,10 @@ public class TaskDto {
     private Long authorId;
     @Schema(description = "ID of the assignee of the task", example = "10")
     private Long assigneeId;
+    @Schema(description = "Whether the task has been moved to the archive", example = "false")
+    private boolean archived;
+    @Schema(description = "Version of the task, to send back on updates so concurrent changes are detected", example = "3")
+    private Long version;
 
     public static Task mapDtoToEntity(TaskDto taskDto, User author, User assignee) {
         Task task = new Task();
@@ -45,7 +50,21 @@ public class TaskDto {
         taskDto.setPriority(task.getPriority());
         taskDto.setStatus(task.getStatus());
         taskDto.setAuthorId(task.getAuthor().getId());
-        taskDto.setAssigneeId(task.getAssignee().getId());
+        taskDto.setAssigneeId(task.getAssignee() != null ? task.getAssignee().getId() : null);
+        taskDto.setVersion(task.getVersion());
+        return taskDto;
+    }
+
+    public static TaskDto mapArchivedEntityToDto(ArchivedTask task) {
+        TaskDto taskDto = new TaskDto();
+        taskDto.setId(task.getId());
+        taskDto.setTitle(task.getTitle());
+        taskDto.setDescription(task.getDescription());
+        taskDto.setPriority(task.getPriority());
+        taskDto.setStatus(task.getStatus());
+        taskDto.setAuthorId(task.getAuthorId());
+        taskDto.setAssigneeId(task.getAssigneeId());
+        taskDto.setArchived(true);
         return taskDto;
     }
 }
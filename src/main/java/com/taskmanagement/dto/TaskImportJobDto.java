@@ -0,0 +1,49 @@
+package com.taskmanagement.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Schema(description = "Progress and result of a bulk task import")
+public class TaskImportJobDto {
+
+    @Schema(description = "Identifier of the import job", example = "3f6c1d2e-8a4b-4c8e-9f1a-2b7d5e6f7a8b")
+    private String jobId;
+
+    @Schema(description = "State of the job", example = "RUNNING")
+    private String status;
+
+    @Schema(description = "Data rows read from the upload so far", example = "250000")
+    private long rowsRead;
+
+    @Schema(description = "Rows inserted so far", example = "249990")
+    private long rowsImported;
+
+    @Schema(description = "Rows rejected so far", example = "10")
+    private long rowsFailed;
+
+    @Schema(description = "Start time of the job", example = "2024-08-01T10:15:30Z")
+    private Instant startedAt;
+
+    @Schema(description = "End time of the job, absent while running", example = "2024-08-01T10:17:02Z")
+    private Instant finishedAt;
+
+    @Schema(description = "Rejected rows, capped at the first errors")
+    private List<RowError> errors;
+
+    @Data
+    @AllArgsConstructor
+    @Schema(description = "Reason a row was rejected")
+    public static class RowError {
+
+        @Schema(description = "Line number in the upload, starting at 1", example = "42")
+        private long line;
+
+        @Schema(description = "Why the row was rejected", example = "Unknown author email: jane@example.com")
+        private String message;
+    }
+}
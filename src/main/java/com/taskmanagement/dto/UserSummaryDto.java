@@ -0,0 +1,32 @@
+package com.taskmanagement.dto;
+
+import com.taskmanagement.entity.Role;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@Schema(description = "User directory entry, without credentials")
+public class UserSummaryDto {
+
+    @Schema(description = "Unique identifier of the user", example = "1")
+    private Long id;
+
+    @Schema(description = "Email of the user", example = "user@example.com")
+    private String email;
+
+    @Schema(description = "Name of the user", example = "John Doe")
+    private String name;
+
+    @Schema(description = "Role of the user", example = "USER")
+    private String role;
+
+    // Used by JPQL constructor expressions, so the password column is never selected
+    public UserSummaryDto(Long id, String email, String name, Role role) {
+        this.id = id;
+        this.email = email;
+        this.name = name;
+        this.role = role.toString();
+    }
+}
@@ -0,0 +1,37 @@
+package com.taskmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.TenantId;
+
+import java.time.Instant;
+
+/**
+ * Comment of an {@link ArchivedTask}, moved in the same batch as its task.
+ */
+@Entity
+@Data
+@Immutable
+@Table(name = "archived_comment", indexes = @Index(name = "idx_archived_comment_tenant_task", columnList = "tenant_id, task_id, id"))
+public class ArchivedComment {
+
+    @Id
+    private Long id;
+
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 64)
+    private String tenantId;
+
+    @Column(nullable = false)
+    private String content;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+}
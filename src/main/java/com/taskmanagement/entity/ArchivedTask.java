@@ -0,0 +1,60 @@
+package com.taskmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.TenantId;
+
+import java.time.Instant;
+
+/**
+ * Completed task moved out of the {@code task} table by {@link com.taskmanagement.service.ArchiveService}.
+ * Rows are only ever written by the archival batch and read back, never updated. Author and
+ * assignee are kept as plain ids so archived rows do not hold users back from being purged.
+ */
+@Entity
+@Data
+@Immutable
+@Table(name = "archived_task", indexes = {
+        @Index(name = "idx_archived_task_tenant_author", columnList = "tenant_id, author_id"),
+        @Index(name = "idx_archived_task_tenant_assignee", columnList = "tenant_id, assignee_id"),
+        @Index(name = "idx_archived_task_tenant_priority", columnList = "tenant_id, priority")
+})
+public class ArchivedTask {
+
+    @Id
+    private Long id;
+
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 64)
+    private String tenantId;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Priority priority;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+
+    @Column(name = "assignee_id")
+    private Long assigneeId;
+
+    @Column(name = "created_at")
+    private Instant createdAt;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
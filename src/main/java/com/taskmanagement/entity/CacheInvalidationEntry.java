@@ -0,0 +1,36 @@
+package com.taskmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+/**
+ * Row of the cache invalidation outbox, written and polled with plain JDBC by
+ * {@link com.taskmanagement.cache.JdbcCacheInvalidationBus}; mapped only to define the table.
+ */
+@Entity
+@Data
+@Immutable
+@Table(name = "cache_invalidation", indexes = @Index(name = "idx_cache_invalidation_created", columnList = "created_at"))
+public class CacheInvalidationEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "node_id", nullable = false, length = 36)
+    private String nodeId;
+
+    @Column(name = "cache_name", nullable = false, length = 64)
+    private String cacheName;
+
+    // null clears the whole cache
+    @Column(name = "cache_key")
+    private String cacheKey;
+
+    @Column(name = "created_at", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "datetime(3) default current_timestamp(3) not null")
+    private Instant createdAt;
+}
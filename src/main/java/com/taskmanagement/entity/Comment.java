@@ -2,23 +2,54 @@ package com.taskmanagement.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.TenantId;
+
+import java.time.Instant;
 
 @Entity
 @Data
+@Table(indexes = {
+        @Index(name = "idx_comment_task_id", columnList = "task_id, id"),
+        @Index(name = "idx_comment_tenant_task", columnList = "tenant_id, task_id, id"),
+        @Index(name = "idx_comment_tenant_author", columnList = "tenant_id, author_id"),
+        @Index(name = "idx_comment_deleted", columnList = "deleted")
+})
+// Comments of a deleted user, or on a deleted user's tasks, are hidden right away and flagged in batches by PurgeService
+@SQLRestriction("deleted = false and not exists (select 1 from user u where u.id = author_id and u.deleted = true) "
+        + "and not exists (select 1 from task t where t.id = task_id and t.author_id in (select u.id from user u where u.deleted = true))")
 public class Comment {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false, columnDefinition = "varchar(64) default 'default' not null")
+    private String tenantId;
+
     @Column(nullable = false)
     private String content;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Task task;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User author;
-}
\ No newline at end of file
+
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private boolean deleted;
+}
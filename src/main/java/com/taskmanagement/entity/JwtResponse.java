@@ -7,5 +7,6 @@ import lombok.*;
 @NoArgsConstructor
 public class JwtResponse {
     String token;
+    String refreshToken;
 
 }
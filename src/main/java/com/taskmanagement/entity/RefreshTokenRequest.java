@@ -0,0 +1,11 @@
+package com.taskmanagement.entity;
+
+import lombok.*;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshTokenRequest {
+    String refreshToken;
+
+}
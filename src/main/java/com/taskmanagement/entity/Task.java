@@ -2,17 +2,37 @@ package com.taskmanagement.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.TenantId;
+import org.hibernate.annotations.UpdateTimestamp;
 
-import java.util.List;
+import java.time.Instant;
 
 @Entity
 @Data
+@Table(indexes = {
+        @Index(name = "idx_task_deleted", columnList = "deleted"),
+        @Index(name = "idx_task_tenant_status", columnList = "tenant_id, status"),
+        @Index(name = "idx_task_tenant_priority", columnList = "tenant_id, priority"),
+        @Index(name = "idx_task_tenant_author", columnList = "tenant_id, author_id"),
+        @Index(name = "idx_task_tenant_assignee", columnList = "tenant_id, assignee_id"),
+        @Index(name = "idx_task_status_updated", columnList = "status, updated_at")
+})
+// Tasks of a deleted user are hidden right away and flagged in batches by PurgeService
+@SQLRestriction("deleted = false and not exists (select 1 from user u where u.id = author_id and u.deleted = true)")
+@DynamicUpdate
 public class Task {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false, columnDefinition = "varchar(64) default 'default' not null")
+    private String tenantId;
+
     @Column(nullable = false)
     private String title;
 
@@ -27,15 +47,36 @@ public class Task {
     @Column(nullable = false)
     private Priority priority;
 
-    @ManyToOne
+    // Lazy: listings only need the ids, which the proxies carry without a query
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User author;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assignee_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User assignee;
 
-    @OneToMany(mappedBy = "task", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<Comment> comments;
+    @CreationTimestamp
+    @Column(name = "created_at", updatable = false)
+    private Instant createdAt;
+
+    // Defaulted for rows that predate the column, so they still age into the archive
+    @UpdateTimestamp
+    @Column(name = "updated_at", columnDefinition = "datetime(6) default current_timestamp(6)")
+    private Instant updatedAt;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Version
+    @Column(nullable = false, columnDefinition = "bigint default 0 not null")
+    private long version;
+
+    // Comments are deliberately not mapped as a collection here: they are read through
+    // CommentRepository with paging and soft deleted in bulk by TaskService.deleteTask
 
 }
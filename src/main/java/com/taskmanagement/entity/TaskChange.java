@@ -0,0 +1,40 @@
+package com.taskmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.TenantId;
+
+import java.time.Instant;
+
+/**
+ * One entry of a task's append-only history. Only the fields that changed are stored,
+ * encoded by {@link com.taskmanagement.service.TaskChangeCodec}. Rows are inserted in
+ * batches by {@link com.taskmanagement.service.TaskHistoryService}, never through JPA.
+ */
+@Entity
+@Data
+@Immutable
+@Table(name = "task_change", indexes = @Index(name = "idx_task_change_tenant_task", columnList = "tenant_id, task_id, id"))
+public class TaskChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false, length = 64)
+    private String tenantId;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "actor_id")
+    private Long actorId;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+
+    @Column(nullable = false, length = 8192)
+    private byte[] payload;
+}
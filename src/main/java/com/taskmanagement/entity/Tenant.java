@@ -0,0 +1,25 @@
+package com.taskmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * Tenant served by this deployment. Rows are provisioned by an operator; the API never creates
+ * them, so a client cannot make up a tenant by sending its id.
+ */
+@Entity
+@Data
+@Table(name = "tenant")
+public class Tenant {
+
+    @Id
+    @Column(length = 64)
+    private String id;
+
+    // Whether anyone may sign up through /api/auth/register; otherwise members are added by other members
+    @Column(name = "open_registration", nullable = false)
+    private boolean openRegistration;
+
+    @Column(nullable = false)
+    private boolean enabled;
+}
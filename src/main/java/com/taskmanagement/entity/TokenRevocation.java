@@ -0,0 +1,22 @@
+package com.taskmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * Per-user access token cutoff shared by every node, written and read with plain SQL through
+ * {@link com.taskmanagement.security.TokenRevocationStore}; mapped only to define the table.
+ */
+@Entity
+@Data
+@Table(name = "token_revocation", indexes = @Index(name = "idx_token_revocation_revoked_before", columnList = "revoked_before"))
+public class TokenRevocation {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    // Epoch millis; tokens of the user issued before it are rejected
+    @Column(name = "revoked_before", nullable = false)
+    private long revokedBefore;
+}
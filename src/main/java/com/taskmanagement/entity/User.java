@@ -2,6 +2,8 @@ package com.taskmanagement.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.annotations.TenantId;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -12,13 +14,24 @@ import java.util.List;
 
 @Entity
 @Data
+@Table(indexes = {
+        @Index(name = "idx_user_tenant_id", columnList = "tenant_id, id"),
+        @Index(name = "idx_user_tenant_email", columnList = "tenant_id, email", unique = true),
+        @Index(name = "idx_user_tenant_name_id", columnList = "tenant_id, name, id"),
+        @Index(name = "idx_user_deleted", columnList = "deleted")
+})
+@SQLRestriction("deleted = false")
 public class User implements UserDetails {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    @TenantId
+    @Column(name = "tenant_id", nullable = false, updatable = false, columnDefinition = "varchar(64) default 'default' not null")
+    private String tenantId;
+
+    @Column(nullable = false)
     private String email;
 
     @Column(nullable = false)
@@ -31,6 +44,9 @@ public class User implements UserDetails {
     @Column(nullable = false)
     private Role role;
 
+    @Column(nullable = false)
+    private boolean deleted;
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority(role.name()));
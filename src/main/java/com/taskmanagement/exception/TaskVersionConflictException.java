@@ -0,0 +1,15 @@
+package com.taskmanagement.exception;
+
+public class TaskVersionConflictException extends RuntimeException {
+
+    private final long currentVersion;
+
+    public TaskVersionConflictException(String message, long currentVersion) {
+        super(message);
+        this.currentVersion = currentVersion;
+    }
+
+    public long getCurrentVersion() {
+        return currentVersion;
+    }
+}
@@ -0,0 +1,111 @@
+package com.taskmanagement.export;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Compact column-oriented binary format, in the spirit of Parquet row groups. Rows are buffered
+ * in groups of {@value #ROW_GROUP_SIZE}, then each column of the group is written contiguously,
+ * so memory is bounded by one group whatever the size of the export.
+ * <pre>
+ * file      = "TMCOL" version:u8 columnCount:varint (name:string type:u8)* group* 0:varint
+ * group     = rowCount:varint column*
+ * column    = nullBitmap:bytes[ceil(rowCount / 8)] value* (non-null values only)
+ * LONG      = zigzag varint of the difference to the previous non-null value of the column
+ * TIMESTAMP = LONG of epoch milliseconds
+ * STRING    = length:varint UTF-8 bytes
+ * </pre>
+ */
+class ColumnarRowWriter implements RowWriter {
+
+    static final int ROW_GROUP_SIZE = 4096;
+    private static final byte[] MAGIC = "TMCOL".getBytes(StandardCharsets.US_ASCII);
+    private static final int VERSION = 1;
+
+    private final DataOutputStream out;
+    private final List<ExportColumn> columns;
+    private final Object[][] group;
+    private int rows;
+
+    ColumnarRowWriter(OutputStream out, List<ExportColumn> columns) throws IOException {
+        this.out = new DataOutputStream(out);
+        this.columns = columns;
+        this.group = new Object[columns.size()][ROW_GROUP_SIZE];
+        this.out.write(MAGIC);
+        this.out.writeByte(VERSION);
+        writeVarLong(columns.size());
+        for (var column : columns) {
+            writeString(column.name());
+            this.out.writeByte(column.type().ordinal());
+        }
+    }
+
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+        for (int column = 0; column < values.length; column++) {
+            group[column][rows] = values[column];
+        }
+        if (++rows == ROW_GROUP_SIZE) {
+            writeGroup();
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (rows > 0) {
+            writeGroup();
+        }
+        writeVarLong(0);
+        out.flush();
+    }
+
+    private void writeGroup() throws IOException {
+        writeVarLong(rows);
+        for (int column = 0; column < columns.size(); column++) {
+            var values = group[column];
+            var nulls = new byte[(rows + 7) / 8];
+            for (int row = 0; row < rows; row++) {
+                if (values[row] == null) {
+                    nulls[row >> 3] |= (byte) (1 << (row & 7));
+                }
+            }
+            out.write(nulls);
+            long previous = 0;
+            for (int row = 0; row < rows; row++) {
+                var value = values[row];
+                if (value == null) {
+                    continue;
+                }
+                switch (columns.get(column).type()) {
+                    case LONG, TIMESTAMP -> {
+                        long current = value instanceof Instant instant ? instant.toEpochMilli() : (Long) value;
+                        long delta = current - previous;
+                        writeVarLong((delta << 1) ^ (delta >> 63));
+                        previous = current;
+                    }
+                    case STRING -> writeString(value.toString());
+                }
+                values[row] = null;
+            }
+        }
+        rows = 0;
+    }
+
+    private void writeString(String value) throws IOException {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length);
+        out.write(bytes);
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+}
@@ -0,0 +1,22 @@
+package com.taskmanagement.export;
+
+public record ExportColumn(String name, Type type) {
+
+    public enum Type {
+        LONG,
+        STRING,
+        TIMESTAMP
+    }
+
+    public static ExportColumn ofLong(String name) {
+        return new ExportColumn(name, Type.LONG);
+    }
+
+    public static ExportColumn ofString(String name) {
+        return new ExportColumn(name, Type.STRING);
+    }
+
+    public static ExportColumn ofTimestamp(String name) {
+        return new ExportColumn(name, Type.TIMESTAMP);
+    }
+}
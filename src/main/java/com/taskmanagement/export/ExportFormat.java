@@ -0,0 +1,37 @@
+package com.taskmanagement.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+public enum ExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson"),
+    COLUMNAR("application/octet-stream", "tmcol");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public RowWriter newWriter(OutputStream out, List<ExportColumn> columns, ObjectMapper objectMapper) throws IOException {
+        return switch (this) {
+            case CSV -> new CsvRowWriter(out, columns);
+            case NDJSON -> new NdjsonRowWriter(out, columns, objectMapper);
+            case COLUMNAR -> new ColumnarRowWriter(out, columns);
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package com.taskmanagement.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * One JSON object per line, written with a streaming generator.
+ */
+class NdjsonRowWriter implements RowWriter {
+
+    private final JsonGenerator generator;
+    private final List<ExportColumn> columns;
+
+    NdjsonRowWriter(OutputStream out, List<ExportColumn> columns, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(out);
+        this.generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+        this.generator.setRootValueSeparator(null);
+        this.columns = columns;
+    }
+
+    @Override
+    public void writeRow(Object[] values) throws IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < values.length; i++) {
+            var name = columns.get(i).name();
+            var value = values[i];
+            if (value == null) {
+                generator.writeNullField(name);
+            } else if (value instanceof Long number) {
+                generator.writeNumberField(name, number);
+            } else if (value instanceof Instant instant) {
+                generator.writeStringField(name, instant.toString());
+            } else {
+                generator.writeStringField(name, value.toString());
+            }
+        }
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        generator.flush();
+    }
+}
@@ -0,0 +1,17 @@
+package com.taskmanagement.export;
+
+import java.io.IOException;
+
+/**
+ * Writes exported rows one at a time. Values are {@link Long}, {@link String} or
+ * {@link java.time.Instant} according to the column type, or null.
+ */
+public interface RowWriter {
+
+    void writeRow(Object[] values) throws IOException;
+
+    /**
+     * Writes what is still buffered and the trailer of the format; does not close the stream.
+     */
+    void finish() throws IOException;
+}
@@ -0,0 +1,55 @@
+package com.taskmanagement.graphql;
+
+import graphql.execution.instrumentation.InstrumentationState;
+import graphql.execution.instrumentation.SimplePerformantInstrumentation;
+import graphql.execution.instrumentation.parameters.InstrumentationFieldFetchParameters;
+import graphql.schema.DataFetcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Times every non-trivial field resolution into the graphql.field timer, tagged with the parent
+ * type and the field. Batched fields are timed until their batch completes. Plain property reads
+ * are left alone, they would only add overhead.
+ */
+public class FieldTimingInstrumentation extends SimplePerformantInstrumentation {
+
+    static final String METRIC_NAME = "graphql.field";
+
+    private final MeterRegistry meterRegistry;
+
+    public FieldTimingInstrumentation(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public DataFetcher<?> instrumentDataFetcher(DataFetcher<?> dataFetcher, InstrumentationFieldFetchParameters parameters,
+                                                InstrumentationState state) {
+        if (parameters.isTrivialDataFetcher()) {
+            return dataFetcher;
+        }
+        var stepInfo = parameters.getExecutionStepInfo();
+        var timer = Timer.builder(METRIC_NAME)
+                .description("Time to resolve a GraphQL field")
+                .tag("type", stepInfo.getObjectType().getName())
+                .tag("field", stepInfo.getFieldDefinition().getName())
+                .register(meterRegistry);
+        return environment -> {
+            var sample = Timer.start(meterRegistry);
+            Object result;
+            try {
+                result = dataFetcher.get(environment);
+            } catch (Exception e) {
+                sample.stop(timer);
+                throw e;
+            }
+            if (result instanceof CompletionStage<?> stage) {
+                return stage.whenComplete((value, error) -> sample.stop(timer));
+            }
+            sample.stop(timer);
+            return result;
+        };
+    }
+}
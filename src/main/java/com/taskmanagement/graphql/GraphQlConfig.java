@@ -0,0 +1,80 @@
+package com.taskmanagement.graphql;
+
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.analysis.FieldComplexityCalculator;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.analysis.MaxQueryComplexityInstrumentation;
+import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.schema.DataFetchingEnvironment;
+import com.taskmanagement.controller.GraphQlController;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.graphql.execution.DataFetcherExceptionResolver;
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.graphql.execution.ErrorType;
+
+import java.util.List;
+
+/**
+ * Guards and metrics of the GraphQL endpoint. Depth and complexity are checked before a query
+ * runs, so an oversized query is rejected without touching the database.
+ */
+@Configuration
+public class GraphQlConfig {
+
+    @Bean
+    public MaxQueryDepthInstrumentation maxQueryDepthInstrumentation(@Value("${graphql.max-query-depth:8}") int maxDepth) {
+        return new MaxQueryDepthInstrumentation(maxDepth);
+    }
+
+    @Bean
+    public MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation(
+            @Value("${graphql.max-query-complexity:20000}") int maxComplexity) {
+        return new MaxQueryComplexityInstrumentation(maxComplexity, fieldComplexityCalculator(maxComplexity));
+    }
+
+    /**
+     * A field costs one plus its selection, times the number of items it can return: the ids given
+     * to a root list, {@link GraphQlController#COMMENTS_PER_TASK} for Task.comments. Nested lists
+     * multiply, so the total approximates the values a query may resolve. Capped just above the
+     * limit so summing siblings cannot overflow.
+     */
+    static FieldComplexityCalculator fieldComplexityCalculator(int maxComplexity) {
+        return (environment, childComplexity) ->
+                (int) Math.min((1L + childComplexity) * itemCount(environment), maxComplexity + 1L);
+    }
+
+    private static int itemCount(FieldComplexityEnvironment environment) {
+        if ("Task".equals(environment.getParentType().getName()) && "comments".equals(environment.getField().getName())) {
+            return GraphQlController.COMMENTS_PER_TASK;
+        }
+        if (environment.getArguments().get("ids") instanceof List<?> ids) {
+            return Math.max(ids.size(), 1);
+        }
+        return 1;
+    }
+
+    @Bean
+    public FieldTimingInstrumentation fieldTimingInstrumentation(MeterRegistry meterRegistry) {
+        return new FieldTimingInstrumentation(meterRegistry);
+    }
+
+    @Bean
+    public DataFetcherExceptionResolver badRequestExceptionResolver() {
+        return new DataFetcherExceptionResolverAdapter() {
+            @Override
+            protected GraphQLError resolveToSingleError(Throwable ex, DataFetchingEnvironment env) {
+                if (ex instanceof IllegalArgumentException) {
+                    return GraphqlErrorBuilder.newError(env)
+                            .errorType(ErrorType.BAD_REQUEST)
+                            .message(ex.getMessage())
+                            .build();
+                }
+                return null;
+            }
+        };
+    }
+}
@@ -0,0 +1,9 @@
+package com.taskmanagement.repository;
+
+// Task locked for archiving; the tenant keys its cache entries
+public interface ArchivableTask {
+
+    Long getId();
+
+    String getTenantId();
+}
@@ -0,0 +1,20 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.ArchivedComment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+@Repository
+public interface ArchivedCommentRepository extends JpaRepository<ArchivedComment, Long> {
+
+    // Soft deleted comments are not carried over, they are dropped with the task
+    @Modifying
+    @Query(value = "insert into archived_comment (id, tenant_id, content, task_id, author_id, created_at) "
+            + "select id, tenant_id, content, task_id, author_id, created_at from comment "
+            + "where task_id in :taskIds and deleted = false", nativeQuery = true)
+    int copyFromTasks(Collection<Long> taskIds);
+}
@@ -0,0 +1,36 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.ArchivedTask;
+import com.taskmanagement.entity.Priority;
+import com.taskmanagement.entity.Status;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    @Override
+    @Query("select t from ArchivedTask t where t.id = :id")
+    Optional<ArchivedTask> findById(Long id);
+
+    Page<ArchivedTask> findByStatus(Status status, Pageable pageable);
+    Page<ArchivedTask> findByPriority(Priority priority, Pageable pageable);
+    Page<ArchivedTask> findByAuthorId(Long authorId, Pageable pageable);
+    Page<ArchivedTask> findByAssigneeId(Long assigneeId, Pageable pageable);
+
+    // Runs inside the archival batch transaction, together with the deletes from task
+    @Modifying
+    @Query(value = "insert into archived_task (id, tenant_id, title, description, status, priority, author_id, "
+            + "assignee_id, created_at, updated_at, archived_at) "
+            + "select id, tenant_id, title, description, status, priority, author_id, assignee_id, created_at, "
+            + "updated_at, :archivedAt from task where id in :taskIds", nativeQuery = true)
+    int copyFromTasks(Collection<Long> taskIds, Instant archivedAt);
+}
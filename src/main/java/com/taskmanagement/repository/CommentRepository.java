@@ -1,13 +1,76 @@
 package com.taskmanagement.repository;
 
 import com.taskmanagement.entity.Comment;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment,Long> {
+    // Loading by primary key does not apply the tenant restriction, so lookups by id go through a query
+    @Override
+    @Query("select c from Comment c where c.id = :id")
+    Optional<Comment> findById(Long id);
+
     Page<Comment> findByTaskId(Long taskId, Pageable pageable);
     Page<Comment> findByAuthorId(Long authorId, Pageable pageable);
+
+    // Keyset access to a task's timeline, served by the (task_id, id) index
+    List<Comment> findByTaskIdOrderByIdAsc(Long taskId, Limit limit);
+    List<Comment> findByTaskIdAndIdGreaterThanOrderByIdAsc(Long taskId, Long id, Limit limit);
+    List<Comment> findByTaskIdAndIdLessThanOrderByIdDesc(Long taskId, Long id, Limit limit);
+
+    // Set-based lookups for a page of tasks, one query each whatever the number of tasks
+    @Query("select new com.taskmanagement.repository.TaskCommentCount(c.task.id, count(c)) from Comment c "
+            + "where c.task.id in :taskIds group by c.task.id")
+    List<TaskCommentCount> countByTaskIds(Collection<Long> taskIds);
+
+    @Query("select c from Comment c where c.id in "
+            + "(select max(c2.id) from Comment c2 where c2.task.id in :taskIds group by c2.task.id)")
+    List<Comment> findLatestByTaskIds(Collection<Long> taskIds);
+
+    // Native, so the tenant and the soft delete filters are spelled out
+    @Query(value = "select id from (select c.id, row_number() over (partition by c.task_id order by c.id) as rn "
+            + "from comment c where c.tenant_id = :tenantId and c.deleted = false and c.task_id in :taskIds "
+            + "and not exists (select 1 from user u where u.id = c.author_id and u.deleted = true) "
+            + "and not exists (select 1 from task t join user u on u.id = t.author_id where t.id = c.task_id and u.deleted = true)) ranked "
+            + "where rn <= :perTask", nativeQuery = true)
+    List<Long> findFirstIdsByTaskIds(String tenantId, Collection<Long> taskIds, int perTask);
+
+    @Transactional
+    @Modifying
+    @Query("update Comment c set c.deleted = true where c.id = :id and c.deleted = false")
+    int softDeleteById(Long id);
+
+    @Modifying
+    @Query("update Comment c set c.deleted = true where c.task.id = :taskId and c.deleted = false")
+    int softDeleteAllByTaskId(Long taskId);
+
+    // Comments of deleted users and on their tasks, flagged a batch at a time for the purge
+    @Transactional
+    @Modifying
+    @Query(value = "update comment set deleted = true where deleted = false "
+            + "and (author_id in (select u.id from user u where u.deleted = true) "
+            + "or task_id in (select t.id from task t join user u on u.id = t.author_id where u.deleted = true)) limit :limit",
+            nativeQuery = true)
+    int softDeleteOfDeletedUsers(int limit);
+
+    // Soft deleted rows are invisible to JPQL, so the purge goes through native SQL
+    @Transactional
+    @Modifying
+    @Query(value = "delete from comment where deleted = true limit :limit", nativeQuery = true)
+    int purgeDeleted(int limit);
+
+    @Modifying
+    @Query(value = "delete from comment where task_id in :taskIds", nativeQuery = true)
+    int deleteArchived(Collection<Long> taskIds);
 }
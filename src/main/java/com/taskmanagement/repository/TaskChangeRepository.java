@@ -0,0 +1,16 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.TaskChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TaskChangeRepository extends JpaRepository<TaskChange, Long> {
+
+    // Newest first, served by the (tenant_id, task_id, id) index
+    List<TaskChange> findByTaskIdOrderByIdDesc(Long taskId, Limit limit);
+    List<TaskChange> findByTaskIdAndIdLessThanOrderByIdDesc(Long taskId, Long id, Limit limit);
+}
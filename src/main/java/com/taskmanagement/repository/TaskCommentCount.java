@@ -0,0 +1,5 @@
+package com.taskmanagement.repository;
+
+// Row of a grouped count, built by a JPQL constructor expression
+public record TaskCommentCount(Long taskId, long count) {
+}
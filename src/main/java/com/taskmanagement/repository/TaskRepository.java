@@ -5,13 +5,63 @@ import com.taskmanagement.entity.Task;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task,Long> {
 
+    // Loading by primary key does not apply the tenant restriction, so lookups by id go through a query
+    @Override
+    @Query("select t from Task t where t.id = :id")
+    Optional<Task> findById(Long id);
+
+    @Query("select t from Task t left join fetch t.assignee where t.id = :id")
+    Optional<Task> findWithAssigneeById(Long id);
+
     Page<Task> findByStatus(Status status, Pageable pageable);
     Page<Task> findByPriority(Priority priority, Pageable pageable);
     Page<Task> findByAuthorId(Long authorId, Pageable pageable);
     Page<Task> findByAssigneeId(Long assigneeId, Pageable pageable);
+
+    @Query("select t.id from Task t where t.id in :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    @Query("select case when count(t) > 0 then true else false end from Task t, User u "
+            + "where t.id = :taskId and u.id = :userId")
+    boolean existsTaskAndUser(Long taskId, Long userId);
+
+    @Modifying
+    @Query("update Task t set t.deleted = true where t.id = :id and t.deleted = false")
+    int softDeleteById(Long id);
+
+    // Tasks of deleted users, flagged a batch at a time for the purge
+    @Transactional
+    @Modifying
+    @Query(value = "update task set deleted = true where deleted = false "
+            + "and author_id in (select u.id from user u where u.deleted = true) limit :limit", nativeQuery = true)
+    int softDeleteOfDeletedUsers(int limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = "delete from task where deleted = true "
+            + "and not exists (select 1 from comment c where c.task_id = task.id) limit :limit", nativeQuery = true)
+    int purgeDeleted(int limit);
+
+    // Candidates for the archive; skip locked so concurrent archivers and user updates do not wait on each other
+    @Query(value = "select id, tenant_id as tenantId from task where status = :status and deleted = false and updated_at < :cutoff "
+            + "and not exists (select 1 from user u where u.id = task.author_id and u.deleted = true) "
+            + "order by id limit :limit for update skip locked", nativeQuery = true)
+    List<ArchivableTask> lockArchivable(String status, Instant cutoff, int limit);
+
+    @Modifying
+    @Query(value = "delete from task where id in :ids", nativeQuery = true)
+    int deleteArchived(Collection<Long> ids);
 }
@@ -0,0 +1,13 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.entity.Tenant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TenantRepository extends JpaRepository<Tenant, String> {
+
+    List<Tenant> findByEnabledTrue();
+}
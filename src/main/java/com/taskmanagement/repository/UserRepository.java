@@ -1,10 +1,58 @@
 package com.taskmanagement.repository;
 
+import com.taskmanagement.dto.UserSummaryDto;
 import com.taskmanagement.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User,Long> {
+    // Loading by primary key does not apply the tenant restriction, so lookups by id go through a query
+    @Override
+    @Query("select u from User u where u.id = :id")
+    Optional<User> findById(Long id);
+
     User findByEmail(String email);
+
+    @Query("select u.id from User u where u.id in :ids")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    @Query("select new com.taskmanagement.dto.UserSummaryDto(u.id, u.email, u.name, u.role) from User u "
+            + "where u.id > :afterId order by u.id")
+    List<UserSummaryDto> findSummariesAfter(Long afterId, Limit limit);
+
+    @Query("select new com.taskmanagement.dto.UserSummaryDto(u.id, u.email, u.name, u.role) from User u where u.id in :ids")
+    List<UserSummaryDto> findSummariesByIds(Collection<Long> ids);
+
+    // Keyset on (name, id) along idx_user_tenant_name_id; prefix must be escaped with '!' and end with '%'
+    @Query("select new com.taskmanagement.dto.UserSummaryDto(u.id, u.email, u.name, u.role) from User u "
+            + "where u.name like :prefix escape '!' and (u.name > :afterName or (u.name = :afterName and u.id > :afterId)) "
+            + "order by u.name, u.id")
+    List<UserSummaryDto> searchSummariesByNameAfter(String prefix, String afterName, Long afterId, Limit limit);
+
+    // Email is unique per tenant, so it is a keyset of its own along idx_user_tenant_email. Users whose
+    // name also matches are left out, the name search already returned them
+    @Query("select new com.taskmanagement.dto.UserSummaryDto(u.id, u.email, u.name, u.role) from User u "
+            + "where u.email like :prefix escape '!' and u.email > :afterEmail and u.name not like :prefix escape '!' "
+            + "order by u.email")
+    List<UserSummaryDto> searchSummariesByEmailAfter(String prefix, String afterEmail, Limit limit);
+
+    @Modifying
+    @Query("update User u set u.deleted = true where u.id = :id and u.deleted = false")
+    int softDeleteById(Long id);
+
+    @Transactional
+    @Modifying
+    @Query(value = "delete from user where deleted = true "
+            + "and not exists (select 1 from task t where t.author_id = user.id or t.assignee_id = user.id) "
+            + "and not exists (select 1 from comment c where c.author_id = user.id) limit :limit", nativeQuery = true)
+    int purgeDeleted(int limit);
 }
@@ -0,0 +1,24 @@
+package com.taskmanagement.security;
+
+import com.taskmanagement.entity.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * Principal built from the claims of a verified access token, so authenticating a request
+ * does not need to load the {@link com.taskmanagement.entity.User} entity.
+ */
+public record AuthenticatedUser(Long id, String email, Role role, String tenantId) implements Principal {
+
+    public List<GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(role.name()));
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -0,0 +1,36 @@
+package com.taskmanagement.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class JdbcTokenRevocationStore implements TokenRevocationStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void save(Long userId, long revokedBefore) {
+        jdbcTemplate.update("insert into token_revocation (user_id, revoked_before) values (?, ?) "
+                + "on duplicate key update revoked_before = greatest(revoked_before, values(revoked_before))", userId, revokedBefore);
+    }
+
+    @Override
+    public Map<Long, Long> findRevokedAfter(long horizon) {
+        var cutoffs = new HashMap<Long, Long>();
+        jdbcTemplate.query("select user_id, revoked_before from token_revocation where revoked_before > ?",
+                rs -> {
+                    cutoffs.put(rs.getLong("user_id"), rs.getLong("revoked_before"));
+                }, horizon);
+        return cutoffs;
+    }
+
+    @Override
+    public void deleteRevokedBefore(long horizon) {
+        jdbcTemplate.update("delete from token_revocation where revoked_before < ?", horizon);
+    }
+}
@@ -1,59 +1,74 @@
 package com.taskmanagement.security;
 
-import com.taskmanagement.service.JwtUserService;
+import com.taskmanagement.tenant.TenantContext;
+import com.taskmanagement.tenant.TenantRegistry;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
+@Slf4j
 @Component
 public class JwtFilter extends OncePerRequestFilter {
-    @Autowired
-    private JwtUserService jwtUserService;
     @Autowired
     private JwtUtils jwtUtils;
 
+    @Autowired
+    private TenantRegistry tenantRegistry;
+
     @Override
     protected void doFilterInternal(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse, FilterChain filterChain) throws ServletException, IOException {
 
         final String requestTokenHeader = httpServletRequest.getHeader("Authorization");
 
-        System.out.println(requestTokenHeader);
-        String email = null;
-        String jwtToken = null;
+        AuthenticatedUser principal = null;
         if (requestTokenHeader != null && requestTokenHeader.startsWith("Bearer ")) {
-            jwtToken = requestTokenHeader.substring(7);
+            String jwtToken = requestTokenHeader.substring(7);
             try {
-                email = this.jwtUtils.extractUsername(jwtToken);
+                principal = this.jwtUtils.parsePrincipal(jwtToken).orElse(null);
             } catch (ExpiredJwtException e) {
-                System.out.println("Token Expired");
-            } catch (Exception e) {
-                System.out.println("Error");
+                log.debug("Token expired");
+            } catch (JwtException | IllegalArgumentException e) {
+                log.debug("Invalid token: {}", e.getMessage());
             }
-
         } else {
-            System.out.println("Token invalid!, Not start bearer ");
+            log.debug("No bearer token on request to {}", httpServletRequest.getRequestURI());
         }
-        //validation
-        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            final UserDetails userDetails = this.jwtUserService.loadUserByUsername(email);
-            if (this.jwtUtils.validateToken(jwtToken, userDetails)) {
-                //valid
-                UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(httpServletRequest));
-                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
-            }
-        } else {
-            System.out.println("Not valid token");
+        //validation: the principal comes from verified claims only, no user lookup
+        if (principal != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+            authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(httpServletRequest));
+            SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+        }
+
+        //tenant: taken from the token when authenticated, otherwise from the header (login, register),
+        //and only ever one the registry knows, so a client cannot pick an arbitrary tenant
+        String tenantId = principal != null ? principal.tenantId() : httpServletRequest.getHeader(TenantContext.TENANT_HEADER);
+        if (tenantId == null) {
+            tenantId = TenantContext.DEFAULT_TENANT;
+        } else if (!TenantContext.isValid(tenantId) || !tenantRegistry.isKnown(tenantId)) {
+            log.debug("Rejected request for unknown tenant {}", tenantId);
+            httpServletResponse.setStatus(HttpStatus.BAD_REQUEST.value());
+            httpServletResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            httpServletResponse.getWriter().write("{\"error\":\"Unknown tenant\"}");
+            return;
+        }
+        TenantContext.setTenantId(tenantId);
+        try {
+            filterChain.doFilter(httpServletRequest, httpServletResponse);
+        } finally {
+            TenantContext.clear();
         }
-        filterChain.doFilter(httpServletRequest, httpServletResponse);
     }
-}
\ No newline at end of file
+}
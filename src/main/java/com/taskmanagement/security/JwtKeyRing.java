@@ -0,0 +1,99 @@
+package com.taskmanagement.security;
+
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyStore;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Signing keys loaded once at startup from configuration and/or a keystore. New tokens are
+ * signed with the active key and carry its id in the {@code kid} header; every loaded key is
+ * accepted for verification, so a key can be rotated by adding the new one on all nodes,
+ * switching {@code jwt.active-key-id}, and removing the old one after the access token lifetime.
+ * Startup fails without keys, except under the {@code dev} profile, which falls back to an
+ * ephemeral key.
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    private static final String EPHEMERAL_KEY_ID = "ephemeral";
+
+    private final Map<String, SecretKey> keys;
+    private final String activeKeyId;
+
+    public JwtKeyRing(JwtProperties jwtProperties, Environment environment) {
+        Map<String, SecretKey> loaded = new LinkedHashMap<>();
+        for (var signingKey : jwtProperties.getKeys()) {
+            loaded.put(signingKey.getId(), Keys.hmacShaKeyFor(Decoders.BASE64.decode(signingKey.getSecret())));
+        }
+        if (jwtProperties.getKeystore().getLocation() != null) {
+            loaded.putAll(loadKeystore(jwtProperties.getKeystore()));
+        }
+        if (loaded.isEmpty()) {
+            if (!environment.acceptsProfiles(Profiles.of("dev"))) {
+                throw new IllegalStateException("No JWT signing keys configured: set jwt.keys or jwt.keystore, "
+                        + "or run with the dev profile to use an ephemeral key");
+            }
+            log.warn("No JWT signing keys configured, using an ephemeral key: tokens will not survive a restart "
+                    + "and will not be accepted by other nodes");
+            loaded.put(EPHEMERAL_KEY_ID, Keys.secretKeyFor(SignatureAlgorithm.HS256));
+        }
+
+        this.keys = Collections.unmodifiableMap(loaded);
+        this.activeKeyId = jwtProperties.getActiveKeyId() != null
+                ? jwtProperties.getActiveKeyId()
+                : loaded.keySet().iterator().next();
+        if (!keys.containsKey(activeKeyId)) {
+            throw new IllegalStateException("Active JWT key id '" + activeKeyId + "' is not among the configured keys");
+        }
+        log.info("Loaded {} JWT signing keys, active key id: {}", keys.size(), activeKeyId);
+    }
+
+    public String getActiveKeyId() {
+        return activeKeyId;
+    }
+
+    public Key getActiveKey() {
+        return keys.get(activeKeyId);
+    }
+
+    public Key getVerificationKey(String keyId) {
+        var key = keys.get(keyId);
+        if (key == null) {
+            throw new SignatureException("Unknown JWT signing key id: " + keyId);
+        }
+        return key;
+    }
+
+    private static Map<String, SecretKey> loadKeystore(JwtProperties.Keystore properties) {
+        var password = properties.getPassword() != null ? properties.getPassword().toCharArray() : null;
+        try (var inputStream = properties.getLocation().getInputStream()) {
+            var keyStore = KeyStore.getInstance(properties.getType());
+            keyStore.load(inputStream, password);
+
+            Map<String, SecretKey> loaded = new LinkedHashMap<>();
+            for (var alias : Collections.list(keyStore.aliases())) {
+                if (keyStore.getKey(alias, password) instanceof SecretKey secretKey) {
+                    loaded.put(alias, Keys.hmacShaKeyFor(secretKey.getEncoded()));
+                }
+            }
+            return loaded;
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to load JWT keystore from " + properties.getLocation(), e);
+        }
+    }
+}
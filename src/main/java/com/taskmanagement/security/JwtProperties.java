@@ -0,0 +1,43 @@
+package com.taskmanagement.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.core.io.Resource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "jwt")
+public class JwtProperties {
+
+    private Duration accessTokenTtl = Duration.ofMinutes(15);
+
+    private Duration refreshTokenTtl = Duration.ofDays(14);
+
+    // Reject access tokens issued before a user's password or role change
+    private boolean revocationCheck = true;
+
+    // Key id used to sign new tokens; defaults to the first configured key
+    private String activeKeyId;
+
+    private List<SigningKey> keys = new ArrayList<>();
+
+    private Keystore keystore = new Keystore();
+
+    @Data
+    public static class SigningKey {
+        private String id;
+        // Base64 encoded HMAC secret, at least 256 bits
+        private String secret;
+    }
+
+    @Data
+    public static class Keystore {
+        // Every secret key entry is loaded, its alias is used as the key id
+        private Resource location;
+        private String password;
+        private String type = "PKCS12";
+    }
+}
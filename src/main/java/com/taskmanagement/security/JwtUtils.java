@@ -1,22 +1,48 @@
 package com.taskmanagement.security;
 
 
+import com.taskmanagement.entity.Role;
+import com.taskmanagement.entity.User;
+import com.taskmanagement.tenant.TenantContext;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
-import org.springframework.security.core.userdetails.UserDetails;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 
 @Component
 public class JwtUtils {
-    private static final Key SECRET_KEY = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    static final String USER_ID_CLAIM = "uid";
+    static final String ROLE_CLAIM = "role";
+    static final String VERSION_CLAIM = "ver";
+    static final String TENANT_CLAIM = "tid";
+
+    private final JwtProperties jwtProperties;
+    private final TokenRevocationRegistry revocationRegistry;
+    private final JwtKeyRing keyRing;
+    private final JwtParser parser;
+
+    public JwtUtils(JwtProperties jwtProperties, TokenRevocationRegistry revocationRegistry, JwtKeyRing keyRing) {
+        this.jwtProperties = jwtProperties;
+        this.revocationRegistry = revocationRegistry;
+        this.keyRing = keyRing;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return keyRing.getVerificationKey(header.getKeyId());
+                    }
+                })
+                .build();
+    }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
@@ -32,34 +58,45 @@ public class JwtUtils {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(SECRET_KEY)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    /**
+     * Verifies the token (signature and expiration) and builds the principal from its claims.
+     * Empty when the token lacks the user claims or has been revoked.
+     */
+    public Optional<AuthenticatedUser> parsePrincipal(String token) {
+        Claims claims = extractAllClaims(token);
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        Long version = claims.get(VERSION_CLAIM, Long.class);
+        String tenantId = claims.get(TENANT_CLAIM, String.class);
+        if (userId == null || role == null || version == null || revocationRegistry.isRevoked(userId, version)) {
+            return Optional.empty();
+        }
+        if (tenantId == null) {
+            tenantId = TenantContext.DEFAULT_TENANT;
+        }
+        return Optional.of(new AuthenticatedUser(userId, claims.getSubject(), Role.valueOf(role), tenantId));
     }
 
-    public String generateToken(UserDetails userDetails) {
+    public String generateToken(User user) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername());
+        claims.put(USER_ID_CLAIM, user.getId());
+        claims.put(ROLE_CLAIM, user.getRole().name());
+        claims.put(VERSION_CLAIM, System.currentTimeMillis());
+        claims.put(TENANT_CLAIM, user.getTenantId());
+        return createToken(claims, user.getUsername());
     }
 
     private String createToken(Map<String, Object> claims, String subject) {
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, keyRing.getActiveKeyId())
                 .setClaims(claims)
                 .setSubject(subject)
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10)) // 10 hours expiration
-                .signWith(SECRET_KEY, SignatureAlgorithm.HS256)
+                .setExpiration(new Date(System.currentTimeMillis() + jwtProperties.getAccessTokenTtl().toMillis()))
+                .signWith(keyRing.getActiveKey())
                 .compact();
     }
-
-    public boolean validateToken(String token, UserDetails userDetails) {
-        String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,63 @@
+package com.taskmanagement.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import com.taskmanagement.tenant.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Dedicated, bounded pool for BCrypt work (login verification and hashing) so that
+ * bursts of logins cannot occupy every request thread. When the queue is full the
+ * task is rejected immediately instead of piling up.
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor implements DisposableBean {
+
+    private final ExecutorService executor;
+    private final Executor tenantAwareExecutor;
+
+    public PasswordHashingExecutor(@Value("${security.password.executor.pool-size:4}") int poolSize,
+                                   @Value("${security.password.executor.queue-capacity:100}") int queueCapacity,
+                                   MeterRegistry meterRegistry) {
+        var threadCounter = new AtomicInteger();
+        var pool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    var thread = new Thread(runnable, "password-hashing-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "password.hashing");
+        // the task and the continuations completing on the pool thread see the submitter's tenant
+        this.tenantAwareExecutor = command -> executor.execute(TenantContext.wrap(command));
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, tenantAwareExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Password hashing queue is full, rejecting task");
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,92 @@
+package com.taskmanagement.security;
+
+import com.taskmanagement.entity.Role;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final Map<BucketKey, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<RateLimitGroup, Counter> allowedCounters = new EnumMap<>(RateLimitGroup.class);
+    private final Map<RateLimitGroup, Counter> rejectedCounters = new EnumMap<>(RateLimitGroup.class);
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        for (var group : RateLimitGroup.values()) {
+            allowedCounters.put(group, counter(meterRegistry, group, "allowed"));
+            rejectedCounters.put(group, counter(meterRegistry, group, "rejected"));
+        }
+        meterRegistry.gaugeMapSize("http.ratelimit.buckets", Tags.empty(), buckets);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (!properties.isEnabled() || authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        var group = RateLimitGroup.of(request);
+        long now = System.nanoTime();
+        var bucket = buckets.computeIfAbsent(new BucketKey(user.id(), group),
+                key -> newBucket(user.role(), group, now));
+        long waitNanos = bucket.tryAcquire(now);
+        if (waitNanos == 0) {
+            allowedCounters.get(group).increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        rejectedCounters.get(group).increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        log.warn("Rate limit exceeded for user {} on {}, retry after {}s", user.id(), group, retryAfterSeconds);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"Too many requests\"}");
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.idle-eviction:PT10M}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    private TokenBucket newBucket(Role role, RateLimitGroup group, long now) {
+        var limit = properties.limitFor(role, group);
+        return new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, RateLimitGroup group, String outcome) {
+        return Counter.builder("http.ratelimit.requests")
+                .tag("group", group.name())
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record BucketKey(Long userId, RateLimitGroup group) {
+    }
+}
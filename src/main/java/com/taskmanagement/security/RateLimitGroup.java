@@ -0,0 +1,22 @@
+package com.taskmanagement.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+
+public enum RateLimitGroup {
+    COMMENT_WRITES,
+    TASK_READS,
+    DEFAULT;
+
+    public static RateLimitGroup of(HttpServletRequest request) {
+        var method = request.getMethod();
+        var uri = request.getRequestURI();
+        if (HttpMethod.POST.matches(method) && uri.startsWith("/api/comments")) {
+            return COMMENT_WRITES;
+        }
+        if (HttpMethod.GET.matches(method) && uri.startsWith("/api/tasks")) {
+            return TASK_READS;
+        }
+        return DEFAULT;
+    }
+}
@@ -0,0 +1,37 @@
+package com.taskmanagement.security;
+
+import com.taskmanagement.entity.Role;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Data
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Buckets that have refilled completely are dropped after this interval
+    private Duration idleEviction = Duration.ofMinutes(10);
+
+    private Limit defaultLimit = new Limit();
+
+    private Map<Role, Map<RateLimitGroup, Limit>> limits = new EnumMap<>(Role.class);
+
+    public Limit limitFor(Role role, RateLimitGroup group) {
+        var roleLimits = limits.get(role);
+        if (roleLimits == null) {
+            return defaultLimit;
+        }
+        return roleLimits.getOrDefault(group, defaultLimit);
+    }
+
+    @Data
+    public static class Limit {
+        private long capacity = 100;
+        private double refillPerSecond = 50;
+    }
+}
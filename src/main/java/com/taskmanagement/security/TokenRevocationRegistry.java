@@ -0,0 +1,74 @@
+package com.taskmanagement.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Record of access tokens that must no longer be accepted. Instead of listing tokens it keeps
+ * a per-user cutoff: tokens issued before it are rejected. Cutoffs are written to the shared
+ * {@link TokenRevocationStore} and every node reloads them every {@code jwt.revocation-poll-interval},
+ * checking tokens against its in-memory copy. Entries older than the access token lifetime are
+ * dropped, since those tokens have expired anyway.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationRegistry implements InitializingBean {
+
+    private final JwtProperties jwtProperties;
+    private final TokenRevocationStore store;
+    private final Map<Long, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterPropertiesSet() {
+        reload();
+    }
+
+    public void revokeUser(Long userId) {
+        long cutoff = System.currentTimeMillis();
+        store.save(userId, cutoff);
+        revokedBefore.merge(userId, cutoff, Math::max);
+        log.info("Revoked access tokens for user with id: {}", userId);
+    }
+
+    public boolean isRevoked(Long userId, long issuedAtMillis) {
+        if (!jwtProperties.isRevocationCheck()) {
+            return false;
+        }
+        Long cutoff = revokedBefore.get(userId);
+        return cutoff != null && issuedAtMillis < cutoff;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation-poll-interval:PT2S}")
+    public void reload() {
+        if (!jwtProperties.isRevocationCheck()) {
+            return;
+        }
+        try {
+            store.findRevokedAfter(horizon()).forEach((userId, cutoff) -> revokedBefore.merge(userId, cutoff, Math::max));
+        } catch (RuntimeException e) {
+            log.error("Failed to reload token revocations: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation-cleanup-interval:PT5M}")
+    public void evictExpired() {
+        long horizon = horizon();
+        revokedBefore.values().removeIf(cutoff -> cutoff < horizon);
+        try {
+            store.deleteRevokedBefore(horizon);
+        } catch (RuntimeException e) {
+            log.error("Failed to delete expired token revocations: {}", e.getMessage());
+        }
+    }
+
+    private long horizon() {
+        return System.currentTimeMillis() - jwtProperties.getAccessTokenTtl().toMillis();
+    }
+}
@@ -0,0 +1,17 @@
+package com.taskmanagement.security;
+
+import java.util.Map;
+
+/**
+ * Shared table of per-user revocation cutoffs in epoch millis, so a revocation made on one node
+ * is enforced by every node of both applications, including ones started after it.
+ */
+public interface TokenRevocationStore {
+
+    void save(Long userId, long revokedBefore);
+
+    // Cutoffs after the horizon; older ones only concern tokens that have expired anyway
+    Map<Long, Long> findRevokedAfter(long horizon);
+
+    void deleteRevokedBefore(long horizon);
+}
@@ -0,0 +1,136 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.config.CacheConfig;
+import com.taskmanagement.entity.Status;
+import com.taskmanagement.repository.ArchivableTask;
+import com.taskmanagement.repository.ArchivedCommentRepository;
+import com.taskmanagement.repository.ArchivedTaskRepository;
+import com.taskmanagement.repository.CommentRepository;
+import com.taskmanagement.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves completed tasks that have not changed for {@code archive.min-age}, with their comments,
+ * from the hot tables into {@code archived_task} and {@code archived_comment}. Each batch is copied
+ * and deleted in its own transaction, with a pause in between, like {@link PurgeService}, and
+ * runs on a dedicated thread for the same reason. Cached tasks and assignees of the moved tasks
+ * are evicted once the batch commits, so reads fall through to the archive.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ArchiveService implements DisposableBean {
+
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final ArchivedCommentRepository archivedCommentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final ThreadPoolExecutor archiveExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new SynchronousQueue<>(), ArchiveService::newThread, new ThreadPoolExecutor.DiscardPolicy());
+
+    @Value("${archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${archive.min-age:P90D}")
+    private Duration minAge;
+
+    @Value("${archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${archive.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    @Value("${archive.pause-between-batches:PT0.5S}")
+    private Duration pauseBetweenBatches;
+
+    @Scheduled(fixedDelayString = "${archive.interval:PT10M}")
+    public void scheduleArchival() {
+        if (!enabled) {
+            return;
+        }
+        archiveExecutor.execute(() -> {
+            try {
+                archiveCompletedTasks();
+            } catch (RuntimeException e) {
+                log.error("Archive run failed", e);
+            }
+        });
+    }
+
+    public void archiveCompletedTasks() {
+        var cutoff = Instant.now().minus(minAge);
+        int tasks = 0;
+        int comments = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            var moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            tasks += moved.tasks();
+            comments += moved.comments();
+            if (moved.tasks() < batchSize) {
+                break;
+            }
+            try {
+                Thread.sleep(pauseBetweenBatches.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        if (tasks > 0) {
+            log.info("Archived {} tasks and {} comments completed before {}", tasks, comments, cutoff);
+        }
+    }
+
+    private Moved archiveBatch(Instant cutoff) {
+        var locked = taskRepository.lockArchivable(Status.COMPLETED.name(), cutoff, batchSize);
+        if (locked.isEmpty()) {
+            return new Moved(0, 0);
+        }
+        var taskIds = locked.stream().map(ArchivableTask::getId).toList();
+        int comments = archivedCommentRepository.copyFromTasks(taskIds);
+        archivedTaskRepository.copyFromTasks(taskIds, Instant.now());
+        commentRepository.deleteArchived(taskIds);
+        int tasks = taskRepository.deleteArchived(taskIds);
+        evictCached(locked);
+        return new Moved(tasks, comments);
+    }
+
+    // The caches are transaction aware, so the evictions apply and are broadcast after the commit
+    private void evictCached(List<ArchivableTask> tasks) {
+        for (var cacheName : List.of(CacheConfig.TASKS, CacheConfig.TASK_ASSIGNEES)) {
+            var cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                tasks.forEach(task -> cache.evict(CacheConfig.tenantKey(task.getTenantId(), task.getId())));
+            }
+        }
+    }
+
+    private static Thread newThread(Runnable runnable) {
+        var thread = new Thread(runnable, "archive");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    @Override
+    public void destroy() {
+        archiveExecutor.shutdownNow();
+    }
+
+    private record Moved(int tasks, int comments) {
+    }
+}
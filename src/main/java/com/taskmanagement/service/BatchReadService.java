@@ -0,0 +1,144 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.config.CacheConfig;
+import com.taskmanagement.dto.CommentDto;
+import com.taskmanagement.dto.TaskDto;
+import com.taskmanagement.dto.UserSummaryDto;
+import com.taskmanagement.repository.ArchivedTaskRepository;
+import com.taskmanagement.repository.CommentRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.tenant.TenantContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Reads many entities by id with one IN query per chunk of ids. Tasks and users are looked up
+ * in their caches first and only the misses go to the database; what is loaded is cached.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class BatchReadService {
+
+    public static final int MAX_IDS_PER_REQUEST = 500;
+    private static final int IN_LIST_CHUNK_SIZE = 250;
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final UserRepository userRepository;
+    private final CommentRepository commentRepository;
+    private final CacheManager cacheManager;
+
+    /**
+     * Drops null and repeated ids, keeping the order.
+     */
+    public static List<Long> normalizeIds(List<Long> ids) {
+        var distinct = ids.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinct.isEmpty() || distinct.size() > MAX_IDS_PER_REQUEST) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_IDS_PER_REQUEST + " ids must be given");
+        }
+        return distinct;
+    }
+
+    public Map<Long, TaskDto> findTasks(Collection<Long> ids) {
+        return lookAside(CacheConfig.TASKS, TaskDto.class, ids, misses -> {
+            var found = new HashMap<Long, TaskDto>();
+            inChunks(misses, chunk -> taskRepository.findAllById(chunk))
+                    .forEach(task -> found.put(task.getId(), TaskDto.mapEntityToDto(task)));
+            // same fall through as getTaskById
+            var archived = misses.stream().filter(id -> !found.containsKey(id)).toList();
+            inChunks(archived, chunk -> archivedTaskRepository.findAllById(chunk))
+                    .forEach(task -> found.put(task.getId(), TaskDto.mapArchivedEntityToDto(task)));
+            return found;
+        });
+    }
+
+    public Map<Long, UserSummaryDto> findUsers(Collection<Long> ids) {
+        return lookAside(CacheConfig.USER_SUMMARIES, UserSummaryDto.class, ids, misses -> {
+            var found = new HashMap<Long, UserSummaryDto>();
+            inChunks(misses, userRepository::findSummariesByIds)
+                    .forEach(user -> found.put(user.getId(), user));
+            return found;
+        });
+    }
+
+    public Map<Long, CommentDto> findComments(Collection<Long> ids) {
+        var found = new HashMap<Long, CommentDto>();
+        inChunks(ids, chunk -> commentRepository.findAllById(chunk))
+                .forEach(comment -> found.put(comment.getId(), CommentDto.mapEntityToDto(comment)));
+        log.info("Fetched {} of {} comments by id", found.size(), ids.size());
+        return found;
+    }
+
+    /**
+     * First comments of each task, oldest first, ranked per task in one query.
+     */
+    public Map<Long, List<CommentDto>> findFirstCommentsByTaskIds(Collection<Long> taskIds, int perTask) {
+        var ids = inChunks(taskIds, chunk -> commentRepository.findFirstIdsByTaskIds(TenantContext.getTenantId(), chunk, perTask));
+        var byTask = new HashMap<Long, List<CommentDto>>();
+        findComments(ids).values().stream()
+                .sorted(Comparator.comparing(CommentDto::getId))
+                .forEach(comment -> byTask.computeIfAbsent(comment.getTaskId(), id -> new ArrayList<>()).add(comment));
+        return byTask;
+    }
+
+    public Map<Long, Long> countCommentsByTaskIds(Collection<Long> taskIds) {
+        var counts = new HashMap<Long, Long>();
+        inChunks(taskIds, commentRepository::countByTaskIds)
+                .forEach(count -> counts.put(count.taskId(), count.count()));
+        return counts;
+    }
+
+    public Map<Long, CommentDto> findLatestCommentsByTaskIds(Collection<Long> taskIds) {
+        var latest = new HashMap<Long, CommentDto>();
+        inChunks(taskIds, commentRepository::findLatestByTaskIds)
+                .forEach(comment -> latest.put(comment.getTask().getId(), CommentDto.mapEntityToDto(comment)));
+        return latest;
+    }
+
+    private <V> Map<Long, V> lookAside(String cacheName, Class<V> type, Collection<Long> ids,
+                                       Function<List<Long>, Map<Long, V>> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        var found = new HashMap<Long, V>();
+        var misses = new ArrayList<Long>();
+        for (var id : ids) {
+            var cached = cache != null ? cache.get(CacheConfig.tenantKey(id), type) : null;
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                misses.add(id);
+            }
+        }
+        if (!misses.isEmpty()) {
+            var loaded = loader.apply(misses);
+            if (cache != null) {
+                loaded.forEach((id, value) -> cache.put(CacheConfig.tenantKey(id), value));
+            }
+            found.putAll(loaded);
+        }
+        log.info("Fetched {} of {} {} by id, {} from cache", found.size(), ids.size(), cacheName, ids.size() - misses.size());
+        return found;
+    }
+
+    private static <T> List<T> inChunks(Collection<Long> ids, Function<List<Long>, List<T>> query) {
+        var idList = List.copyOf(ids);
+        var results = new ArrayList<T>();
+        for (int from = 0; from < idList.size(); from += IN_LIST_CHUNK_SIZE) {
+            results.addAll(query.apply(idList.subList(from, Math.min(from + IN_LIST_CHUNK_SIZE, idList.size()))));
+        }
+        return results;
+    }
+}
@@ -1,18 +1,34 @@
 package com.taskmanagement.service;
 import com.taskmanagement.dto.CommentDto;
+import com.taskmanagement.dto.CursorPage;
+import com.taskmanagement.entity.Comment;
 import com.taskmanagement.exception.CommentNotFoundException;
 import com.taskmanagement.repository.CommentRepository;
 import com.taskmanagement.repository.TaskRepository;
 import com.taskmanagement.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
 @Service
 @Slf4j
 public class CommentService {
 
+    private static final int MAX_TIMELINE_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 500;
+
     private final CommentRepository commentRepository;
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
@@ -23,16 +39,50 @@ public class CommentService {
         this.userRepository = userRepository;
     }
 
+    // Task and author are validated with a single query and then set as references only,
+    // instead of loading the task graph and the author
     public CommentDto createComment(CommentDto commentDto) {
-        var task = taskRepository.findById(commentDto.getTaskId())
-                .orElseThrow(() -> new CommentNotFoundException("Task not found with id " + commentDto.getTaskId()));
-        var author = userRepository.findById(commentDto.getAuthorId())
-                .orElseThrow(() -> new CommentNotFoundException("Author not found with id " + commentDto.getAuthorId()));
-
-        var comment = CommentDto.mapDtoToEntity(commentDto, task, author);
-        var savedComment = commentRepository.save(comment);
-        log.info("Created comment with id: {}", savedComment.getId());
-        return CommentDto.mapEntityToDto(savedComment);
+        if (!taskRepository.existsTaskAndUser(commentDto.getTaskId(), commentDto.getAuthorId())) {
+            throw missingReference(commentDto, new CommentNotFoundException("Task or author not found"));
+        }
+        var comment = CommentDto.mapDtoToEntity(commentDto,
+                taskRepository.getReferenceById(commentDto.getTaskId()),
+                userRepository.getReferenceById(commentDto.getAuthorId()));
+        try {
+            var savedComment = commentRepository.save(comment);
+            log.info("Created comment with id: {}", savedComment.getId());
+            return CommentDto.mapEntityToDto(savedComment);
+        } catch (DataIntegrityViolationException e) {
+            throw missingReference(commentDto, e);
+        }
+    }
+
+    @Transactional
+    public List<CommentDto> createComments(List<CommentDto> commentDtos) {
+        if (commentDtos.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " comments can be created at once");
+        }
+        var taskIds = commentDtos.stream().map(CommentDto::getTaskId).collect(Collectors.toSet());
+        var authorIds = commentDtos.stream().map(CommentDto::getAuthorId).collect(Collectors.toSet());
+        var existingTaskIds = new HashSet<>(taskRepository.findExistingIds(taskIds));
+        var existingAuthorIds = new HashSet<>(userRepository.findExistingIds(authorIds));
+        for (var commentDto : commentDtos) {
+            if (!existingTaskIds.contains(commentDto.getTaskId())) {
+                throw new CommentNotFoundException("Task not found with id " + commentDto.getTaskId());
+            }
+            if (!existingAuthorIds.contains(commentDto.getAuthorId())) {
+                throw new CommentNotFoundException("Author not found with id " + commentDto.getAuthorId());
+            }
+        }
+
+        var comments = commentDtos.stream()
+                .map(commentDto -> CommentDto.mapDtoToEntity(commentDto,
+                        taskRepository.getReferenceById(commentDto.getTaskId()),
+                        userRepository.getReferenceById(commentDto.getAuthorId())))
+                .toList();
+        var savedComments = commentRepository.saveAll(comments);
+        log.info("Created {} comments in batch", savedComments.size());
+        return savedComments.stream().map(CommentDto::mapEntityToDto).toList();
     }
 
     public Page<CommentDto> getCommentsByTask(Long taskId, Pageable pageable) {
@@ -42,6 +92,50 @@ public class CommentService {
         return commentDtosPage;
     }
 
+    /**
+     * Keyset paged timeline of a task's comments in creation order. Unlike offset paging the
+     * cost of a page does not depend on how deep it is.
+     */
+    public CursorPage<CommentDto> getCommentTimeline(Long taskId, String after, String before, int size) {
+        if (after != null && before != null) {
+            throw new IllegalArgumentException("Only one of 'after' and 'before' can be given");
+        }
+        if (size < 1 || size > MAX_TIMELINE_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_TIMELINE_PAGE_SIZE);
+        }
+
+        var limit = Limit.of(size + 1);
+        boolean backwards = before != null;
+        List<Comment> comments;
+        if (backwards) {
+            comments = commentRepository.findByTaskIdAndIdLessThanOrderByIdDesc(taskId, CursorPage.decodeCursor(before), limit);
+        } else if (after != null) {
+            comments = commentRepository.findByTaskIdAndIdGreaterThanOrderByIdAsc(taskId, CursorPage.decodeCursor(after), limit);
+        } else {
+            comments = commentRepository.findByTaskIdOrderByIdAsc(taskId, limit);
+        }
+
+        boolean hasMore = comments.size() > size;
+        comments = new ArrayList<>(hasMore ? comments.subList(0, size) : comments);
+        if (backwards) {
+            Collections.reverse(comments);
+        }
+
+        String nextCursor = null;
+        String previousCursor = null;
+        if (!comments.isEmpty()) {
+            var firstId = comments.get(0).getId();
+            var lastId = comments.get(comments.size() - 1).getId();
+            nextCursor = backwards || hasMore ? CursorPage.encodeCursor(lastId) : null;
+            previousCursor = backwards ? (hasMore ? CursorPage.encodeCursor(firstId) : null)
+                    : (after != null ? CursorPage.encodeCursor(firstId) : null);
+        }
+
+        var items = comments.stream().map(CommentDto::mapEntityToDto).toList();
+        log.info("Fetched {} timeline comments for task with id: {}", items.size(), taskId);
+        return new CursorPage<>(items, nextCursor, previousCursor);
+    }
+
     public Page<CommentDto> getCommentsByUser(Long userId, Pageable pageable) {
         var commentsPage = commentRepository.findByAuthorId(userId, pageable);
         var commentDtosPage = commentsPage.map(CommentDto::mapEntityToDto);
@@ -49,28 +143,46 @@ public class CommentService {
         return commentDtosPage;
     }
 
+    @Transactional
     public CommentDto updateComment(Long id, CommentDto commentDto) {
         var existingComment = commentRepository.findById(id)
                 .orElseThrow(() -> new CommentNotFoundException("Comment not found with id " + id));
 
-        var task = taskRepository.findById(commentDto.getTaskId())
-                .orElseThrow(() -> new CommentNotFoundException("Task not found with id " + commentDto.getTaskId()));
-        var author = userRepository.findById(commentDto.getAuthorId())
-                .orElseThrow(() -> new CommentNotFoundException("Author not found with id " + commentDto.getAuthorId()));
-
         existingComment.setContent(commentDto.getContent());
-        existingComment.setTask(task);
-        existingComment.setAuthor(author);
+        boolean taskChanged = !Objects.equals(existingComment.getTask().getId(), commentDto.getTaskId());
+        boolean authorChanged = !Objects.equals(existingComment.getAuthor().getId(), commentDto.getAuthorId());
+        if ((taskChanged || authorChanged) && !taskRepository.existsTaskAndUser(commentDto.getTaskId(), commentDto.getAuthorId())) {
+            throw missingReference(commentDto, new CommentNotFoundException("Task or author not found"));
+        }
+        if (taskChanged) {
+            existingComment.setTask(taskRepository.getReferenceById(commentDto.getTaskId()));
+        }
+        if (authorChanged) {
+            existingComment.setAuthor(userRepository.getReferenceById(commentDto.getAuthorId()));
+        }
+        try {
+            commentRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw missingReference(commentDto, e);
+        }
+        log.info("Updated comment with id: {}", existingComment.getId());
+        return CommentDto.mapEntityToDto(existingComment);
+    }
 
-        var updatedComment = commentRepository.save(existingComment);
-        log.info("Updated comment with id: {}", updatedComment.getId());
-        return CommentDto.mapEntityToDto(updatedComment);
+    private RuntimeException missingReference(CommentDto commentDto, RuntimeException fallback) {
+        if (!taskRepository.existsById(commentDto.getTaskId())) {
+            return new CommentNotFoundException("Task not found with id " + commentDto.getTaskId(), fallback);
+        }
+        if (!userRepository.existsById(commentDto.getAuthorId())) {
+            return new CommentNotFoundException("Author not found with id " + commentDto.getAuthorId(), fallback);
+        }
+        return fallback;
     }
 
     public void deleteComment(Long id) {
-        var existingComment = commentRepository.findById(id)
-                .orElseThrow(() -> new CommentNotFoundException("Comment not found with id " + id));
-        commentRepository.delete(existingComment);
+        if (commentRepository.softDeleteById(id) == 0) {
+            throw new CommentNotFoundException("Comment not found with id " + id);
+        }
         log.info("Deleted comment with id: {}", id);
     }
 
@@ -0,0 +1,108 @@
+package com.taskmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.export.ExportColumn;
+import com.taskmanagement.export.ExportFormat;
+import com.taskmanagement.tenant.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Streams whole tables of the current tenant to an output stream. Rows come from a forward-only
+ * cursor and are written as they arrive, so memory use does not depend on the number of rows.
+ */
+@Service
+@Slf4j
+public class ExportService {
+
+    private static final List<ExportColumn> TASK_COLUMNS = List.of(
+            ExportColumn.ofLong("id"),
+            ExportColumn.ofString("title"),
+            ExportColumn.ofString("description"),
+            ExportColumn.ofString("status"),
+            ExportColumn.ofString("priority"),
+            ExportColumn.ofLong("author_id"),
+            ExportColumn.ofLong("assignee_id"),
+            ExportColumn.ofTimestamp("created_at"),
+            ExportColumn.ofTimestamp("updated_at"));
+    private static final String TASKS_SQL = "select id, title, description, status, priority, author_id, assignee_id, "
+            + "created_at, updated_at from task where tenant_id = ? and deleted = false "
+            + "and not exists (select 1 from user u where u.id = task.author_id and u.deleted = true) order by id";
+
+    private static final List<ExportColumn> COMMENT_COLUMNS = List.of(
+            ExportColumn.ofLong("id"),
+            ExportColumn.ofLong("task_id"),
+            ExportColumn.ofLong("author_id"),
+            ExportColumn.ofString("content"),
+            ExportColumn.ofTimestamp("created_at"));
+    private static final String COMMENTS_SQL = "select id, task_id, author_id, content, created_at "
+            + "from comment where tenant_id = ? and deleted = false "
+            + "and not exists (select 1 from user u where u.id = comment.author_id and u.deleted = true) "
+            + "and not exists (select 1 from task t join user u on u.id = t.author_id where t.id = comment.task_id and u.deleted = true) "
+            + "order by id";
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public ExportService(DataSource dataSource, ObjectMapper objectMapper,
+                         @Value("${export.fetch-size:-2147483648}") int fetchSize) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.objectMapper = objectMapper;
+    }
+
+    public long exportTasks(OutputStream out, ExportFormat format) throws IOException {
+        return export(TASKS_SQL, TASK_COLUMNS, out, format);
+    }
+
+    public long exportComments(OutputStream out, ExportFormat format) throws IOException {
+        return export(COMMENTS_SQL, COMMENT_COLUMNS, out, format);
+    }
+
+    private long export(String sql, List<ExportColumn> columns, OutputStream out, ExportFormat format) throws IOException {
+        var writer = format.newWriter(out, columns, objectMapper);
+        var rows = new long[1];
+        try {
+            streamingJdbcTemplate.query(sql, (ResultSet rs) -> {
+                try {
+                    writer.writeRow(readRow(rs, columns));
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, TenantContext.getTenantId());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.finish();
+        return rows[0];
+    }
+
+    private static Object[] readRow(ResultSet rs, List<ExportColumn> columns) throws SQLException {
+        var values = new Object[columns.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = switch (columns.get(i).type()) {
+                case LONG -> {
+                    long value = rs.getLong(i + 1);
+                    yield rs.wasNull() ? null : value;
+                }
+                case STRING -> rs.getString(i + 1);
+                case TIMESTAMP -> {
+                    var timestamp = rs.getTimestamp(i + 1);
+                    yield timestamp != null ? timestamp.toInstant() : null;
+                }
+            };
+        }
+        return values;
+    }
+}
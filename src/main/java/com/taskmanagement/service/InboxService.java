@@ -0,0 +1,92 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.CommentDto;
+import com.taskmanagement.dto.InboxDto;
+import com.taskmanagement.dto.InboxTaskDto;
+import com.taskmanagement.dto.TaskDto;
+import com.taskmanagement.entity.Comment;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.repository.CommentRepository;
+import com.taskmanagement.repository.TaskCommentCount;
+import com.taskmanagement.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Builds a user's inbox in a fixed number of queries: one page of assigned and one page of
+ * authored tasks (each with its count), then the comment counts and the latest comment of all
+ * those tasks at once.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class InboxService {
+
+    public static final int MAX_INBOX_SIZE = 100;
+    private static final int PREVIEW_LENGTH = 140;
+
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+
+    public InboxDto getInbox(Long userId, int size) {
+        if (size < 1 || size > MAX_INBOX_SIZE) {
+            throw new IllegalArgumentException("Inbox size must be between 1 and " + MAX_INBOX_SIZE);
+        }
+        var newestFirst = PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "id"));
+        Page<Task> assigned = taskRepository.findByAssigneeId(userId, newestFirst);
+        Page<Task> authored = taskRepository.findByAuthorId(userId, newestFirst);
+
+        var taskIds = new LinkedHashSet<Long>();
+        assigned.forEach(task -> taskIds.add(task.getId()));
+        authored.forEach(task -> taskIds.add(task.getId()));
+
+        Map<Long, Long> commentCounts = Map.of();
+        Map<Long, Comment> latestComments = Map.of();
+        if (!taskIds.isEmpty()) {
+            commentCounts = commentRepository.countByTaskIds(taskIds).stream()
+                    .collect(Collectors.toMap(TaskCommentCount::taskId, TaskCommentCount::count));
+            latestComments = commentRepository.findLatestByTaskIds(taskIds).stream()
+                    .collect(Collectors.toMap(comment -> comment.getTask().getId(), Function.identity()));
+        }
+
+        var inbox = new InboxDto();
+        inbox.setAssigned(toInboxTasks(assigned.getContent(), commentCounts, latestComments));
+        inbox.setAssignedTotal(assigned.getTotalElements());
+        inbox.setAuthored(toInboxTasks(authored.getContent(), commentCounts, latestComments));
+        inbox.setAuthoredTotal(authored.getTotalElements());
+        log.info("Built inbox for user with id: {} with {} assigned and {} authored tasks",
+                userId, inbox.getAssigned().size(), inbox.getAuthored().size());
+        return inbox;
+    }
+
+    private static List<InboxTaskDto> toInboxTasks(List<Task> tasks, Map<Long, Long> commentCounts,
+                                                   Map<Long, Comment> latestComments) {
+        var inboxTasks = new ArrayList<InboxTaskDto>(tasks.size());
+        for (var task : tasks) {
+            var inboxTask = new InboxTaskDto();
+            inboxTask.setTask(TaskDto.mapEntityToDto(task));
+            inboxTask.setCommentCount(commentCounts.getOrDefault(task.getId(), 0L));
+            var latest = latestComments.get(task.getId());
+            if (latest != null) {
+                var preview = CommentDto.mapEntityToDto(latest);
+                if (preview.getContent().length() > PREVIEW_LENGTH) {
+                    preview.setContent(preview.getContent().substring(0, PREVIEW_LENGTH) + "…");
+                }
+                inboxTask.setLatestComment(preview);
+            }
+            inboxTasks.add(inboxTask);
+        }
+        return inboxTasks;
+    }
+}
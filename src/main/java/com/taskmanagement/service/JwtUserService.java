@@ -4,6 +4,7 @@ import com.taskmanagement.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -11,7 +12,7 @@ import org.springframework.stereotype.Service;
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class JwtUserService implements UserDetailsService {
+public class JwtUserService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -24,4 +25,14 @@ public class JwtUserService implements UserDetailsService {
         }
         return user;
     }
+
+    // Called by the authentication provider after a successful login when the stored
+    // hash was produced with a lower BCrypt strength than the one currently configured
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = (User) userDetails;
+        user.setPassword(newPassword);
+        log.info("Re-hashed password for user with email: {}", user.getEmail());
+        return userRepository.save(user);
+    }
 }
@@ -0,0 +1,103 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.repository.CommentRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Physically removes soft deleted rows in small batches, each in its own short transaction,
+ * pausing between batches so the purge never holds locks for long or floods replication.
+ * Content of deleted users is flagged first, a batch at a time as well, so deleting a user never
+ * touches their tasks and comments inside the request. Children go first so a parent is only
+ * removed once nothing references it; a deleted user stays as long as tasks are assigned to them.
+ * <p>
+ * The run sleeps between batches, so it executes on its own thread; the scheduler only hands
+ * it over and stays free for the other jobs. A trigger that fires while a run is still going is
+ * dropped rather than queued.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PurgeService implements DisposableBean {
+
+    private final CommentRepository commentRepository;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final ThreadPoolExecutor purgeExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new SynchronousQueue<>(), PurgeService::newThread, new ThreadPoolExecutor.DiscardPolicy());
+
+    @Value("${purge.batch-size:500}")
+    private int batchSize;
+
+    @Value("${purge.max-batches-per-run:100}")
+    private int maxBatchesPerRun;
+
+    @Value("${purge.pause-between-batches:PT0.2S}")
+    private Duration pauseBetweenBatches;
+
+    @Scheduled(fixedDelayString = "${purge.interval:PT1M}")
+    public void schedulePurge() {
+        purgeExecutor.execute(() -> {
+            try {
+                purgeDeleted();
+            } catch (RuntimeException e) {
+                log.error("Purge run failed", e);
+            }
+        });
+    }
+
+    public void purgeDeleted() {
+        int flaggedComments = purge(commentRepository::softDeleteOfDeletedUsers);
+        int flaggedTasks = purge(taskRepository::softDeleteOfDeletedUsers);
+        if (flaggedComments + flaggedTasks > 0) {
+            log.info("Flagged {} comments and {} tasks of deleted users", flaggedComments, flaggedTasks);
+        }
+        int comments = purge(commentRepository::purgeDeleted);
+        int tasks = purge(taskRepository::purgeDeleted);
+        int users = purge(userRepository::purgeDeleted);
+        if (comments + tasks + users > 0) {
+            log.info("Purged {} comments, {} tasks and {} users", comments, tasks, users);
+        }
+    }
+
+    private int purge(IntUnaryOperator deleteBatch) {
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int deleted = deleteBatch.applyAsInt(batchSize);
+            total += deleted;
+            if (deleted < batchSize) {
+                break;
+            }
+            try {
+                Thread.sleep(pauseBetweenBatches.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return total;
+    }
+
+    private static Thread newThread(Runnable runnable) {
+        var thread = new Thread(runnable, "purge");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    @Override
+    public void destroy() {
+        purgeExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,104 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.entity.JwtResponse;
+import com.taskmanagement.entity.RefreshToken;
+import com.taskmanagement.exception.InvalidRefreshTokenException;
+import com.taskmanagement.repository.RefreshTokenRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.security.JwtProperties;
+import com.taskmanagement.security.JwtUtils;
+import com.taskmanagement.tenant.TenantContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final JwtUtils jwtUtils;
+    private final JwtProperties jwtProperties;
+
+    public String issue(Long userId) {
+        var bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        var rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        var refreshToken = new RefreshToken();
+        refreshToken.setTokenHash(hash(rawToken));
+        refreshToken.setUserId(userId);
+        refreshToken.setTenantId(TenantContext.getTenantId());
+        refreshToken.setExpiresAt(Instant.now().plus(jwtProperties.getRefreshTokenTtl()));
+        refreshTokenRepository.save(refreshToken);
+        return rawToken;
+    }
+
+    /**
+     * Exchanges a refresh token for a new access token and a new refresh token. The presented
+     * token is revoked; presenting an already revoked token revokes every token of the user,
+     * since it means a rotated token has been replayed.
+     * Not transactional: the user is loaded in a session opened for the token's tenant.
+     */
+    public JwtResponse refresh(String rawToken) {
+        var refreshToken = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new InvalidRefreshTokenException("Refresh token not recognized"));
+
+        if (refreshToken.getExpiresAt().isBefore(Instant.now())) {
+            throw new InvalidRefreshTokenException("Refresh token expired");
+        }
+        if (refreshToken.isRevoked() || refreshTokenRepository.revokeById(refreshToken.getId()) == 0) {
+            int revoked = refreshTokenRepository.revokeAllByUserId(refreshToken.getUserId());
+            log.warn("Revoked refresh token reused for user with id: {}, revoked {} tokens", refreshToken.getUserId(), revoked);
+            throw new InvalidRefreshTokenException("Refresh token revoked");
+        }
+
+        return TenantContext.callAs(refreshToken.getTenantId(), () -> {
+            var user = userRepository.findById(refreshToken.getUserId())
+                    .orElseThrow(() -> new InvalidRefreshTokenException("User not found for refresh token"));
+            log.info("Rotated refresh token for user with id: {}", user.getId());
+            return new JwtResponse(jwtUtils.generateToken(user), issue(user.getId()));
+        });
+    }
+
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(refreshToken -> refreshTokenRepository.revokeById(refreshToken.getId()));
+    }
+
+    public void revokeAll(Long userId) {
+        int revoked = refreshTokenRepository.revokeAllByUserId(userId);
+        log.info("Revoked {} refresh tokens for user with id: {}", revoked, userId);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-token-purge-interval:PT1H}")
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpiredBefore(Instant.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired refresh tokens", deleted);
+        }
+    }
+
+    private static byte[] hash(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            throw new InvalidRefreshTokenException("Refresh token is required");
+        }
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
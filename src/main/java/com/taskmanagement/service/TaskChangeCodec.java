@@ -0,0 +1,154 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.TaskChangeDto.FieldChange;
+import com.taskmanagement.entity.Priority;
+import com.taskmanagement.entity.Status;
+import com.taskmanagement.entity.Task;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Binary encoding of the fields that differ between two states of a task: a format version
+ * byte, then for each changed field its tag followed by the old and the new value. Enums are
+ * written as their ordinal, so constants of {@link Status} and {@link Priority} must only ever
+ * be appended. Ids are written as varints of {@code id + 1}, with 0 meaning no value.
+ */
+public final class TaskChangeCodec {
+
+    private static final byte VERSION = 1;
+
+    private static final byte TITLE = 1;
+    private static final byte DESCRIPTION = 2;
+    private static final byte STATUS = 3;
+    private static final byte PRIORITY = 4;
+    private static final byte AUTHOR = 5;
+    private static final byte ASSIGNEE = 6;
+
+    private TaskChangeCodec() {
+    }
+
+    /**
+     * Values of a task captured before it is modified.
+     */
+    public record Snapshot(String title, String description, Status status, Priority priority,
+                           Long authorId, Long assigneeId) {
+
+        public static Snapshot of(Task task) {
+            return new Snapshot(task.getTitle(), task.getDescription(), task.getStatus(), task.getPriority(),
+                    task.getAuthor() != null ? task.getAuthor().getId() : null,
+                    task.getAssignee() != null ? task.getAssignee().getId() : null);
+        }
+    }
+
+    /**
+     * Encodes the differences, or returns null when nothing changed.
+     */
+    public static byte[] encode(Snapshot before, Snapshot after) {
+        var out = new ByteArrayOutputStream();
+        out.write(VERSION);
+        int fields = 0;
+        if (!Objects.equals(before.title(), after.title())) {
+            out.write(TITLE);
+            writeString(out, before.title());
+            writeString(out, after.title());
+            fields++;
+        }
+        if (!Objects.equals(before.description(), after.description())) {
+            out.write(DESCRIPTION);
+            writeString(out, before.description());
+            writeString(out, after.description());
+            fields++;
+        }
+        if (before.status() != after.status()) {
+            out.write(STATUS);
+            out.write(before.status().ordinal());
+            out.write(after.status().ordinal());
+            fields++;
+        }
+        if (before.priority() != after.priority()) {
+            out.write(PRIORITY);
+            out.write(before.priority().ordinal());
+            out.write(after.priority().ordinal());
+            fields++;
+        }
+        if (!Objects.equals(before.authorId(), after.authorId())) {
+            out.write(AUTHOR);
+            writeId(out, before.authorId());
+            writeId(out, after.authorId());
+            fields++;
+        }
+        if (!Objects.equals(before.assigneeId(), after.assigneeId())) {
+            out.write(ASSIGNEE);
+            writeId(out, before.assigneeId());
+            writeId(out, after.assigneeId());
+            fields++;
+        }
+        return fields == 0 ? null : out.toByteArray();
+    }
+
+    public static List<FieldChange> decode(byte[] payload) {
+        var in = ByteBuffer.wrap(payload);
+        if (in.get() != VERSION) {
+            throw new IllegalArgumentException("Unsupported task change format");
+        }
+        var changes = new ArrayList<FieldChange>();
+        while (in.hasRemaining()) {
+            byte tag = in.get();
+            changes.add(switch (tag) {
+                case TITLE -> new FieldChange("title", readString(in), readString(in));
+                case DESCRIPTION -> new FieldChange("description", readString(in), readString(in));
+                case STATUS -> new FieldChange("status", Status.values()[in.get()].name(), Status.values()[in.get()].name());
+                case PRIORITY -> new FieldChange("priority", Priority.values()[in.get()].name(), Priority.values()[in.get()].name());
+                case AUTHOR -> new FieldChange("authorId", readId(in), readId(in));
+                case ASSIGNEE -> new FieldChange("assigneeId", readId(in), readId(in));
+                default -> throw new IllegalArgumentException("Unknown task change field: " + tag);
+            });
+        }
+        return changes;
+    }
+
+    private static void writeString(ByteArrayOutputStream out, String value) {
+        var bytes = value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        writeVarLong(out, bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        var bytes = new byte[(int) readVarLong(in)];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeId(ByteArrayOutputStream out, Long id) {
+        writeVarLong(out, id != null ? id + 1 : 0);
+    }
+
+    private static String readId(ByteBuffer in) {
+        long value = readVarLong(in);
+        return value == 0 ? null : String.valueOf(value - 1);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+}
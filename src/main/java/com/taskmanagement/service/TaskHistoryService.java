@@ -0,0 +1,217 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.CursorPage;
+import com.taskmanagement.dto.TaskChangeDto;
+import com.taskmanagement.entity.Task;
+import com.taskmanagement.entity.TaskChange;
+import com.taskmanagement.repository.TaskChangeRepository;
+import com.taskmanagement.security.AuthenticatedUser;
+import com.taskmanagement.tenant.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append-only history of task changes. Changes are queued by the updating request and written
+ * by a background flush as one JDBC batch, so an update costs no extra round trip. When the
+ * queue is full the recording thread waits up to {@code task-history.offer-timeout} for room and
+ * then drops the entry; it never writes to the database itself.
+ * <p>
+ * Each batch is written in one transaction, so a failed batch leaves nothing behind and is held back
+ * and retried with exponential backoff before anything newer is written. It is only dropped after
+ * {@code task-history.max-attempts} failures, counted in {@code task.history.dropped}.
+ */
+@Service
+@Slf4j
+public class TaskHistoryService {
+
+    private static final String INSERT_SQL =
+            "insert into task_change (tenant_id, task_id, actor_id, changed_at, payload) values (?, ?, ?, ?, ?)";
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final TaskChangeRepository taskChangeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingChange> pending;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration offerTimeout;
+    private final Counter droppedCounter;
+    // guarded by this
+    private List<PendingChange> failedBatch = List.of();
+    private int failedAttempts;
+    private Instant retryAt = Instant.MIN;
+
+    public TaskHistoryService(TaskChangeRepository taskChangeRepository, JdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate, MeterRegistry meterRegistry,
+                              @Value("${task-history.queue-capacity:10000}") int queueCapacity,
+                              @Value("${task-history.batch-size:500}") int batchSize,
+                              @Value("${task-history.max-attempts:5}") int maxAttempts,
+                              @Value("${task-history.retry-backoff:PT1S}") Duration retryBackoff,
+                              @Value("${task-history.offer-timeout:PT0.05S}") Duration offerTimeout) {
+        this.taskChangeRepository = taskChangeRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.pending = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.offerTimeout = offerTimeout;
+        this.droppedCounter = meterRegistry.counter("task.history.dropped");
+    }
+
+    public void record(TaskChangeCodec.Snapshot before, Task after) {
+        var payload = TaskChangeCodec.encode(before, TaskChangeCodec.Snapshot.of(after));
+        if (payload == null) {
+            return;
+        }
+        var change = new PendingChange(TenantContext.getTenantId(), after.getId(), currentUserId(), Instant.now(), payload);
+        try {
+            if (pending.offer(change, offerTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.warn("Task history queue is full, dropping the change of task with id: {}", after.getId());
+        droppedCounter.increment();
+    }
+
+    @Scheduled(fixedDelayString = "${task-history.flush-interval:PT0.2S}")
+    public void flushPending() {
+        flush(false);
+    }
+
+    @PreDestroy
+    public synchronized void flushOnShutdown() {
+        flush(true);
+        int lost = failedBatch.size() + pending.size();
+        if (lost > 0) {
+            log.error("Dropping {} unwritten task history entries on shutdown", lost);
+            droppedCounter.increment(lost);
+        }
+    }
+
+    /**
+     * Writes the held back batch first, then drains the queue. Stops at the first failure; the forced
+     * flush at shutdown retries the held back batch without waiting for its backoff.
+     */
+    private synchronized void flush(boolean force) {
+        if (!failedBatch.isEmpty()) {
+            if (!force && Instant.now().isBefore(retryAt)) {
+                return;
+            }
+            if (!write(failedBatch)) {
+                return;
+            }
+        }
+        var batch = new ArrayList<PendingChange>(batchSize);
+        while (pending.drainTo(batch, batchSize) > 0) {
+            if (!write(batch)) {
+                return;
+            }
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    private boolean write(List<PendingChange> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (statement, change) -> {
+                        statement.setString(1, change.tenantId());
+                        statement.setLong(2, change.taskId());
+                        if (change.actorId() != null) {
+                            statement.setLong(3, change.actorId());
+                        } else {
+                            statement.setNull(3, Types.BIGINT);
+                        }
+                        statement.setTimestamp(4, Timestamp.from(change.changedAt()));
+                        statement.setBytes(5, change.payload());
+                    }));
+            failedBatch = List.of();
+            failedAttempts = 0;
+            return true;
+        } catch (RuntimeException e) {
+            if (batch != failedBatch) {
+                failedBatch = batch;
+                failedAttempts = 0;
+            }
+            failedAttempts++;
+            if (failedAttempts >= maxAttempts) {
+                log.error("Dropping {} task history entries after {} failed attempts: {}",
+                        batch.size(), failedAttempts, e.getMessage());
+                droppedCounter.increment(batch.size());
+                failedBatch = List.of();
+                failedAttempts = 0;
+            } else {
+                var backoff = retryBackoff.multipliedBy(1L << (failedAttempts - 1));
+                retryAt = Instant.now().plus(backoff);
+                log.warn("Failed to write {} task history entries (attempt {} of {}), retrying in {}: {}",
+                        batch.size(), failedAttempts, maxAttempts, backoff, e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    /**
+     * History of a task, newest change first, keyset paged through the 'after' cursor.
+     */
+    public CursorPage<TaskChangeDto> getHistory(Long taskId, String after, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        var limit = Limit.of(size + 1);
+        List<TaskChange> changes = after != null
+                ? taskChangeRepository.findByTaskIdAndIdLessThanOrderByIdDesc(taskId, CursorPage.decodeCursor(after), limit)
+                : taskChangeRepository.findByTaskIdOrderByIdDesc(taskId, limit);
+
+        boolean hasMore = changes.size() > size;
+        if (hasMore) {
+            changes = changes.subList(0, size);
+        }
+        var items = changes.stream().map(TaskHistoryService::mapEntityToDto).toList();
+        var nextCursor = hasMore ? CursorPage.encodeCursor(changes.get(changes.size() - 1).getId()) : null;
+        log.info("Fetched {} history entries for task with id: {}", items.size(), taskId);
+        return new CursorPage<>(items, nextCursor, null);
+    }
+
+    private static TaskChangeDto mapEntityToDto(TaskChange change) {
+        var dto = new TaskChangeDto();
+        dto.setId(change.getId());
+        dto.setTaskId(change.getTaskId());
+        dto.setActorId(change.getActorId());
+        dto.setChangedAt(change.getChangedAt());
+        dto.setChanges(TaskChangeCodec.decode(change.getPayload()));
+        return dto;
+    }
+
+    private static Long currentUserId() {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) {
+            return user.id();
+        }
+        return null;
+    }
+
+    private record PendingChange(String tenantId, Long taskId, Long actorId, Instant changedAt, byte[] payload) {
+    }
+}
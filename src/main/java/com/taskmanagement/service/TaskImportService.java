@@ -0,0 +1,390 @@
+package com.taskmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.dto.TaskImportJobDto;
+import com.taskmanagement.dto.TaskImportJobDto.RowError;
+import com.taskmanagement.dto.UserSummaryDto;
+import com.taskmanagement.entity.Priority;
+import com.taskmanagement.entity.Status;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.tenant.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bulk import of tasks from CSV or NDJSON. The upload is spooled to a temporary file and processed
+ * in the background: rows are read in chunks, each chunk is parsed and validated in parallel on a
+ * fork-join pool, author and assignee emails are resolved against a map of the tenant's users loaded
+ * once per job, and valid rows are inserted with JDBC batches.
+ */
+@Service
+@Slf4j
+public class TaskImportService implements DisposableBean {
+
+    public static final String CSV = "text/csv";
+    public static final String NDJSON = "application/x-ndjson";
+
+    private static final List<String> CSV_COLUMNS = List.of("title", "description", "status", "priority", "authorEmail", "assigneeEmail");
+    private static final String INSERT_SQL = "insert into task (tenant_id, title, description, status, priority, author_id, "
+            + "assignee_id, deleted, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, false, ?, ?)";
+    private static final int MAX_TEXT_LENGTH = 255;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int USER_PAGE_SIZE = 10_000;
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor jobExecutor;
+    private final ForkJoinPool validationPool;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    @Value("${task-import.chunk-size:10000}")
+    private int chunkSize;
+
+    @Value("${task-import.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${task-import.job-retention:PT1H}")
+    private Duration jobRetention;
+
+    public TaskImportService(UserRepository userRepository, JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                             @Value("${task-import.max-concurrent-jobs:2}") int maxConcurrentJobs,
+                             @Value("${task-import.validation-parallelism:4}") int validationParallelism) {
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.jobExecutor = new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxConcurrentJobs), new ThreadPoolExecutor.AbortPolicy());
+        this.validationPool = new ForkJoinPool(validationParallelism);
+    }
+
+    /**
+     * Spools the upload and starts the job.
+     *
+     * @throws RejectedExecutionException when too many imports are already queued
+     */
+    public TaskImportJobDto startImport(InputStream upload, String contentType) throws IOException {
+        if (!CSV.equals(contentType) && !NDJSON.equals(contentType)) {
+            throw new IllegalArgumentException("Unsupported content type: " + contentType);
+        }
+        var file = Files.createTempFile("task-import-", contentType.equals(CSV) ? ".csv" : ".ndjson");
+        try {
+            Files.copy(upload, file, StandardCopyOption.REPLACE_EXISTING);
+            var job = new Job(UUID.randomUUID().toString(), TenantContext.getTenantId());
+            jobs.put(job.id, job);
+            try {
+                jobExecutor.execute(() -> run(job, file, contentType));
+            } catch (RejectedExecutionException e) {
+                jobs.remove(job.id);
+                throw e;
+            }
+            log.info("Started task import {} for tenant {}", job.id, job.tenantId);
+            return job.toDto();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    // Jobs are only visible to the tenant that started them
+    public Optional<TaskImportJobDto> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId))
+                .filter(job -> job.tenantId.equals(TenantContext.getTenantId()))
+                .map(Job::toDto);
+    }
+
+    private void run(Job job, Path file, String contentType) {
+        try {
+            TenantContext.callAs(job.tenantId, () -> {
+                importFile(job, file, contentType);
+                return null;
+            });
+            job.status = "COMPLETED";
+            log.info("Task import {} completed: {} imported, {} rejected", job.id, job.imported, job.failed);
+        } catch (Exception e) {
+            job.status = "FAILED";
+            job.addError(0, "Import aborted: " + e.getMessage());
+            log.error("Task import {} failed", job.id, e);
+        } finally {
+            job.finishedAt = Instant.now();
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete import file {}", file);
+            }
+        }
+    }
+
+    private void importFile(Job job, Path file, String contentType) {
+        var userIds = loadUserIds();
+        boolean csv = CSV.equals(contentType);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            long lineNumber = 0;
+            if (csv) {
+                lineNumber++;
+                var header = parseCsvLine(Optional.ofNullable(reader.readLine()).orElse(""));
+                if (!header.equals(CSV_COLUMNS)) {
+                    throw new IllegalArgumentException("CSV header must be " + String.join(",", CSV_COLUMNS));
+                }
+            }
+            var chunk = new ArrayList<RawLine>(chunkSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                chunk.add(new RawLine(lineNumber, line));
+                if (chunk.size() == chunkSize) {
+                    processChunk(job, chunk, csv, userIds);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            processChunk(job, chunk, csv, userIds);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not read import file", e);
+        }
+    }
+
+    private void processChunk(Job job, List<RawLine> chunk, boolean csv, Map<String, Long> userIds) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        job.read.addAndGet(chunk.size());
+        List<Validated> results;
+        try {
+            results = validationPool.submit(() -> chunk.parallelStream()
+                    .map(raw -> validate(raw, csv, userIds))
+                    .toList()).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Import interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Validation failed", e.getCause());
+        }
+
+        var valid = new ArrayList<ValidRow>(results.size());
+        for (var result : results) {
+            if (result.error() != null) {
+                job.failed.incrementAndGet();
+                job.addError(result.line(), result.error());
+            } else {
+                valid.add(result.row());
+            }
+        }
+        insert(job.tenantId, valid);
+        job.imported.addAndGet(valid.size());
+    }
+
+    private void insert(String tenantId, List<ValidRow> rows) {
+        var now = Timestamp.from(Instant.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, batchSize, (statement, row) -> {
+            statement.setString(1, tenantId);
+            statement.setString(2, row.title());
+            statement.setString(3, row.description());
+            statement.setString(4, row.status().name());
+            statement.setString(5, row.priority().name());
+            statement.setLong(6, row.authorId());
+            if (row.assigneeId() != null) {
+                statement.setLong(7, row.assigneeId());
+            } else {
+                statement.setNull(7, Types.BIGINT);
+            }
+            statement.setTimestamp(8, now);
+            statement.setTimestamp(9, now);
+        });
+    }
+
+    // Emails are unique per tenant; users are read in keyset pages of id, email and name only
+    private Map<String, Long> loadUserIds() {
+        var userIds = new HashMap<String, Long>();
+        long afterId = 0;
+        List<UserSummaryDto> page;
+        do {
+            page = userRepository.findSummariesAfter(afterId, Limit.of(USER_PAGE_SIZE));
+            for (var user : page) {
+                userIds.put(user.getEmail().toLowerCase(), user.getId());
+                afterId = user.getId();
+            }
+        } while (page.size() == USER_PAGE_SIZE);
+        return userIds;
+    }
+
+    private Validated validate(RawLine raw, boolean csv, Map<String, Long> userIds) {
+        try {
+            var row = csv ? parseCsvRow(raw.text()) : objectMapper.readValue(raw.text(), ImportRow.class);
+            requireText(row.title(), "title");
+            requireText(row.description(), "description");
+            var status = parseEnum(Status.class, requireText(row.status(), "status"));
+            var priority = parseEnum(Priority.class, requireText(row.priority(), "priority"));
+            var authorId = userIds.get(requireText(row.authorEmail(), "authorEmail").trim().toLowerCase());
+            if (authorId == null) {
+                return Validated.error(raw.line(), "Unknown author email: " + row.authorEmail());
+            }
+            Long assigneeId = null;
+            if (row.assigneeEmail() != null && !row.assigneeEmail().isBlank()) {
+                assigneeId = userIds.get(row.assigneeEmail().trim().toLowerCase());
+                if (assigneeId == null) {
+                    return Validated.error(raw.line(), "Unknown assignee email: " + row.assigneeEmail());
+                }
+            }
+            return new Validated(raw.line(), new ValidRow(row.title(), row.description(), status, priority, authorId, assigneeId), null);
+        } catch (IllegalArgumentException | IOException e) {
+            return Validated.error(raw.line(), e.getMessage());
+        }
+    }
+
+    private static String requireText(String value, String field) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("Missing " + field);
+        }
+        if (value.length() > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException(field + " is longer than " + MAX_TEXT_LENGTH + " characters");
+        }
+        return value;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + type.getSimpleName().toLowerCase() + ": " + value);
+        }
+    }
+
+    private static ImportRow parseCsvRow(String line) {
+        var fields = parseCsvLine(line);
+        if (fields.size() != CSV_COLUMNS.size()) {
+            throw new IllegalArgumentException("Expected " + CSV_COLUMNS.size() + " columns but found " + fields.size());
+        }
+        return new ImportRow(fields.get(0), fields.get(1), fields.get(2), fields.get(3), fields.get(4), fields.get(5));
+    }
+
+    // RFC 4180 fields on a single line: quoted fields may contain commas and doubled quotes, not line breaks
+    static List<String> parseCsvLine(String line) {
+        var fields = new ArrayList<String>();
+        var field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @Scheduled(fixedDelayString = "${task-import.job-cleanup-interval:PT10M}")
+    public void evictFinishedJobs() {
+        var cutoff = Instant.now().minus(jobRetention);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    @Override
+    public void destroy() {
+        jobExecutor.shutdownNow();
+        validationPool.shutdownNow();
+    }
+
+    record ImportRow(String title, String description, String status, String priority,
+                     String authorEmail, String assigneeEmail) {
+    }
+
+    private record RawLine(long line, String text) {
+    }
+
+    private record ValidRow(String title, String description, Status status, Priority priority,
+                            Long authorId, Long assigneeId) {
+    }
+
+    private record Validated(long line, ValidRow row, String error) {
+        static Validated error(long line, String message) {
+            return new Validated(line, null, message);
+        }
+    }
+
+    private static final class Job {
+        private final String id;
+        private final String tenantId;
+        private final Instant startedAt = Instant.now();
+        private final AtomicLong read = new AtomicLong();
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final List<RowError> errors = new ArrayList<>();
+        private volatile String status = "RUNNING";
+        private volatile Instant finishedAt;
+
+        private Job(String id, String tenantId) {
+            this.id = id;
+            this.tenantId = tenantId;
+        }
+
+        private synchronized void addError(long line, String message) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(line, message));
+            }
+        }
+
+        private synchronized TaskImportJobDto toDto() {
+            var dto = new TaskImportJobDto();
+            dto.setJobId(id);
+            dto.setStatus(status);
+            dto.setRowsRead(read.get());
+            dto.setRowsImported(imported.get());
+            dto.setRowsFailed(failed.get());
+            dto.setStartedAt(startedAt);
+            dto.setFinishedAt(finishedAt);
+            dto.setErrors(List.copyOf(errors));
+            return dto;
+        }
+    }
+}
@@ -1,21 +1,39 @@
 package com.taskmanagement.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.taskmanagement.config.CacheConfig;
 import com.taskmanagement.dto.TaskDto;
 import com.taskmanagement.dto.UserDto;
+import com.taskmanagement.entity.ArchivedTask;
 import com.taskmanagement.entity.Priority;
 import com.taskmanagement.entity.Status;
 import com.taskmanagement.entity.Task;
 import com.taskmanagement.exception.TaskNotFoundException;
+import com.taskmanagement.exception.TaskVersionConflictException;
 import com.taskmanagement.exception.UserNotFoundException;
+import com.taskmanagement.repository.ArchivedTaskRepository;
+import com.taskmanagement.repository.CommentRepository;
 import com.taskmanagement.repository.TaskRepository;
 import com.taskmanagement.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.taskmanagement.dto.TaskDto.mapDtoToEntity;
@@ -28,6 +46,12 @@ public class TaskService {
 
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
+    private final CommentRepository commentRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskHistoryService taskHistoryService;
+    private final PlatformTransactionManager transactionManager;
+
+    private static final Set<String> PATCHABLE_FIELDS = Set.of("title", "description", "status", "priority", "authorId", "assigneeId", "version");
 
     public TaskDto createTask(TaskDto taskDto) {
 
@@ -43,9 +67,13 @@ public class TaskService {
         return mapEntityToDto(savedTask);
     }
 
+    // One persistence context for the read and the write, so saving does not re-select the task
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.TASKS, CacheConfig.TASK_ASSIGNEES}, keyGenerator = CacheConfig.TENANT_KEY_GENERATOR)
     public TaskDto updateTask(Long id, TaskDto taskDto) {
         var existingTask = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found"));
+        checkVersion(existingTask, taskDto.getVersion());
 
         var author = userRepository.findById(taskDto.getAuthorId())
                 .orElseThrow(() -> new TaskNotFoundException("Author not found"));
@@ -53,6 +81,7 @@ public class TaskService {
                 userRepository.findById(taskDto.getAssigneeId())
                         .orElseThrow(() -> new TaskNotFoundException("Assignee not found")) : null;
 
+        var before = TaskChangeCodec.Snapshot.of(existingTask);
         existingTask.setTitle(taskDto.getTitle());
         existingTask.setDescription(taskDto.getDescription());
         existingTask.setStatus(taskDto.getStatus());
@@ -60,41 +89,157 @@ public class TaskService {
         existingTask.setAuthor(author);
         existingTask.setAssignee(assignee);
 
-        var updatedTask = taskRepository.save(existingTask);
+        var updatedTask = saveChecked(existingTask);
+        taskHistoryService.record(before, updatedTask);
         log.info("Updated task with id: {}", updatedTask.getId());
         return mapEntityToDto(updatedTask);
     }
 
-    public void deleteTask(Long id) {
-        var existingTask = taskRepository.findById(id)
+    /**
+     * JSON merge patch (RFC 7396): only the fields present in the patch are changed, and only the
+     * changed columns are written. A null assigneeId unassigns the task. The expected version comes
+     * from the If-Match header or the "version" field; when given, a stale version is a conflict.
+     */
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.TASKS, CacheConfig.TASK_ASSIGNEES}, keyGenerator = CacheConfig.TENANT_KEY_GENERATOR)
+    public TaskDto patchTask(Long id, JsonNode patch, Long expectedVersion) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("Patch must be a JSON object");
+        }
+        patch.fieldNames().forEachRemaining(field -> {
+            if (!PATCHABLE_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Unknown field: " + field);
+            }
+        });
+        var task = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found"));
-        taskRepository.delete(existingTask);
-        log.info("Deleted task with id: {}", id);
+        checkVersion(task, expectedVersion != null ? expectedVersion : patchVersion(patch));
+
+        var before = TaskChangeCodec.Snapshot.of(task);
+        if (patch.has("title")) {
+            task.setTitle(requiredText(patch, "title"));
+        }
+        if (patch.has("description")) {
+            task.setDescription(requiredText(patch, "description"));
+        }
+        if (patch.has("status")) {
+            task.setStatus(Status.valueOf(requiredText(patch, "status")));
+        }
+        if (patch.has("priority")) {
+            task.setPriority(Priority.valueOf(requiredText(patch, "priority")));
+        }
+        if (patch.has("authorId")) {
+            if (!patch.get("authorId").canConvertToLong()) {
+                throw new IllegalArgumentException("authorId must be a user id");
+            }
+            var authorId = patch.get("authorId").asLong();
+            task.setAuthor(userRepository.findById(authorId)
+                    .orElseThrow(() -> new UserNotFoundException("Author not found with ID: " + authorId)));
+        }
+        if (patch.has("assigneeId")) {
+            var assigneeNode = patch.get("assigneeId");
+            if (assigneeNode.isNull()) {
+                task.setAssignee(null);
+            } else if (!assigneeNode.canConvertToLong()) {
+                throw new IllegalArgumentException("assigneeId must be a user id or null");
+            } else {
+                var assigneeId = assigneeNode.asLong();
+                task.setAssignee(userRepository.findById(assigneeId)
+                        .orElseThrow(() -> new UserNotFoundException("Assignee not found with ID: " + assigneeId)));
+            }
+        }
+
+        var patchedTask = saveChecked(task);
+        taskHistoryService.record(before, patchedTask);
+        log.info("Patched task with id: {} to version {}", patchedTask.getId(), patchedTask.getVersion());
+        return mapEntityToDto(patchedTask);
+    }
+
+    private static Long patchVersion(JsonNode patch) {
+        if (!patch.hasNonNull("version")) {
+            return null;
+        }
+        var node = patch.get("version");
+        if (!node.isIntegralNumber() || !node.canConvertToLong()) {
+            throw new IllegalArgumentException("version must be a number");
+        }
+        return node.asLong();
     }
 
+    private static String requiredText(JsonNode patch, String field) {
+        var node = patch.get(field);
+        if (node == null || !node.isTextual() || node.asText().isBlank()) {
+            throw new IllegalArgumentException(field + " must be a non-empty string");
+        }
+        return node.asText();
+    }
+
+    private static void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && expectedVersion != task.getVersion()) {
+            throw new TaskVersionConflictException("Task was modified by someone else", task.getVersion());
+        }
+    }
+
+    // The version check in the UPDATE catches writes that raced in after the task was read. Flushed
+    // here so the conflict surfaces now; the current version is read in a fresh transaction, since
+    // the failed one can no longer be used and its snapshot predates the competing write
+    private Task saveChecked(Task task) {
+        try {
+            return taskRepository.saveAndFlush(task);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            var requiresNew = new TransactionTemplate(transactionManager);
+            requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            requiresNew.setReadOnly(true);
+            var currentVersion = requiresNew.execute(status -> taskRepository.findById(task.getId()).map(Task::getVersion))
+                    .orElseThrow(() -> new TaskNotFoundException("Task not found"));
+            throw new TaskVersionConflictException("Task was modified by someone else", currentVersion);
+        }
+    }
+
+    // Only flags the rows; PurgeService removes them later in small batches
+    @CacheEvict(cacheNames = {CacheConfig.TASKS, CacheConfig.TASK_ASSIGNEES}, keyGenerator = CacheConfig.TENANT_KEY_GENERATOR)
+    @Transactional
+    public void deleteTask(Long id) {
+        if (taskRepository.softDeleteById(id) == 0) {
+            throw new TaskNotFoundException("Task not found");
+        }
+        int deletedComments = commentRepository.softDeleteAllByTaskId(id);
+        log.info("Deleted task with id: {} and {} comments", id, deletedComments);
+    }
+
+    // Falls through to the archive, so ids keep resolving after ArchiveService has moved the task.
+    // sync: concurrent misses for one id wait for a single load instead of all hitting the database
+    @Cacheable(cacheNames = CacheConfig.TASKS, keyGenerator = CacheConfig.TENANT_KEY_GENERATOR, sync = true)
     public TaskDto getTaskById(Long id) {
-        var task = taskRepository.findById(id)
+        var taskDto = taskRepository.findById(id)
+                .map(TaskDto::mapEntityToDto)
+                .or(() -> archivedTaskRepository.findById(id).map(TaskDto::mapArchivedEntityToDto))
                 .orElseThrow(() -> new TaskNotFoundException("Task not found"));
         log.info("Fetched task with id: {}", id);
-        return mapEntityToDto(task);
+        return taskDto;
     }
 
-    public Page<TaskDto> getTasksByStatus(Status status, Pageable pageable) {
-        var tasksPage = taskRepository.findByStatus(status, pageable);
-        var taskDtosPage = tasksPage.map(TaskDto::mapEntityToDto);
+    public Page<TaskDto> getTasksByStatus(Status status, Pageable pageable, boolean includeArchived) {
+        var taskDtosPage = includeArchived
+                ? withArchived(pageable, page -> taskRepository.findByStatus(status, page),
+                        page -> archivedTaskRepository.findByStatus(status, page))
+                : taskRepository.findByStatus(status, pageable).map(TaskDto::mapEntityToDto);
         log.info("Fetched {} tasks with status: {}", taskDtosPage.getTotalElements(), status);
         return taskDtosPage;
     }
 
-    public Page<TaskDto> getTasksByPriority(Priority priority, Pageable pageable) {
-        var tasksPage = taskRepository.findByPriority(priority, pageable);
-        var taskDtosPage = tasksPage.map(TaskDto::mapEntityToDto);
+    public Page<TaskDto> getTasksByPriority(Priority priority, Pageable pageable, boolean includeArchived) {
+        var taskDtosPage = includeArchived
+                ? withArchived(pageable, page -> taskRepository.findByPriority(priority, page),
+                        page -> archivedTaskRepository.findByPriority(priority, page))
+                : taskRepository.findByPriority(priority, pageable).map(TaskDto::mapEntityToDto);
         log.info("Fetched {} tasks with priority: {}", taskDtosPage.getTotalElements(), priority);
         return taskDtosPage;
     }
 
+    @Cacheable(cacheNames = CacheConfig.TASK_ASSIGNEES, keyGenerator = CacheConfig.TENANT_KEY_GENERATOR, sync = true)
     public UserDto getAssigneeByTaskId(Long taskId) {
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findWithAssigneeById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with id " + taskId));
 
         var assignee = task.getAssignee();
@@ -105,35 +250,36 @@ public class TaskService {
         return UserDto.mapEntityToDto(assignee);
     }
 
-    public Page<TaskDto> getTasksByAssignee(Long assigneeId, Pageable pageable) {
+    public Page<TaskDto> getTasksByAssignee(Long assigneeId, Pageable pageable, boolean includeArchived) {
+        if (includeArchived) {
+            return withArchived(pageable, page -> taskRepository.findByAssigneeId(assigneeId, page),
+                    page -> archivedTaskRepository.findByAssigneeId(assigneeId, page));
+        }
         Page<Task> tasksPage = taskRepository.findByAssigneeId(assigneeId, pageable);
         return tasksPage.map(TaskDto::mapEntityToDto);
     }
 
-    public Page<TaskDto> getTasksByUser(Long userId, Pageable pageable) {
+    public Page<TaskDto> getTasksByUser(Long userId, Pageable pageable, boolean includeArchived) {
         log.info("Fetching tasks for user with id: {}", userId);
-        var tasksPage = taskRepository.findByAuthorId(userId, pageable);
-        var taskDtosPage = tasksPage.map(TaskDto::mapEntityToDto);
+        var taskDtosPage = includeArchived
+                ? withArchived(pageable, page -> taskRepository.findByAuthorId(userId, page),
+                        page -> archivedTaskRepository.findByAuthorId(userId, page))
+                : taskRepository.findByAuthorId(userId, pageable).map(TaskDto::mapEntityToDto);
 
         log.info("Fetched {} tasks for user with id: {}", taskDtosPage.getTotalElements(), userId);
         return taskDtosPage;
     }
 
-  /*  public TaskDto updateTaskStatus(Long taskId, Status status) {
-        var task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new TaskNotFoundException("Task not found with id " + taskId));
-        task.setStatus(status);
-        var updatedTask = taskRepository.save(task);
-
-        log.info("Task updated with ID: {}", updatedTask.getId());
-        return mapEntityToDto(updatedTask);
-    }*/
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.TASKS, CacheConfig.TASK_ASSIGNEES}, keyGenerator = CacheConfig.TENANT_KEY_GENERATOR)
     public TaskDto updateTaskStatus(Long taskId, Status status) {
         var task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new TaskNotFoundException("Task not found with ID " + taskId));
 
+        var before = TaskChangeCodec.Snapshot.of(task);
         task.setStatus(status);
-        var updatedTask = taskRepository.save(task);
+        var updatedTask = saveChecked(task);
+        taskHistoryService.record(before, updatedTask);
 
         return TaskDto.mapEntityToDto(updatedTask);
     }
@@ -148,5 +294,35 @@ public class TaskService {
         return taskDtos;
     }
 
-}
+    /**
+     * One page over live tasks followed by archived ones. The archived part starts at an offset
+     * that is not page aligned, so it is read from at most two consecutive archive pages.
+     */
+    private Page<TaskDto> withArchived(Pageable pageable, Function<Pageable, Page<Task>> live,
+                                       Function<Pageable, Page<ArchivedTask>> archived) {
+        var livePage = live.apply(pageable);
+        var content = new ArrayList<>(livePage.map(TaskDto::mapEntityToDto).getContent());
 
+        int size = pageable.getPageSize();
+        int remaining = size - content.size();
+        if (remaining == 0) {
+            long archivedTotal = archived.apply(PageRequest.of(0, 1)).getTotalElements();
+            return new PageImpl<>(content, pageable, livePage.getTotalElements() + archivedTotal);
+        }
+
+        long archivedOffset = Math.max(0, pageable.getOffset() - livePage.getTotalElements());
+        int firstPage = (int) (archivedOffset / size);
+        int skip = (int) (archivedOffset % size);
+        var archivedPage = archived.apply(PageRequest.of(firstPage, size));
+        var archivedTasks = new ArrayList<>(archivedPage.getContent());
+        if (skip + remaining > size && archivedPage.hasNext()) {
+            archivedTasks.addAll(archived.apply(PageRequest.of(firstPage + 1, size)).getContent());
+        }
+        archivedTasks.stream()
+                .skip(skip)
+                .limit(remaining)
+                .map(TaskDto::mapArchivedEntityToDto)
+                .forEach(content::add);
+        return new PageImpl<>(content, pageable, livePage.getTotalElements() + archivedPage.getTotalElements());
+    }
+}
@@ -1,62 +1,112 @@
 package com.taskmanagement.service;
+import com.taskmanagement.config.CacheConfig;
+import com.taskmanagement.dto.CursorPage;
 import com.taskmanagement.dto.UserDto;
+import com.taskmanagement.dto.UserSummaryDto;
 import com.taskmanagement.entity.Role;
 import com.taskmanagement.entity.User;
 import com.taskmanagement.exception.UserNotFoundException;
 import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.security.PasswordHashingExecutor;
+import com.taskmanagement.security.TokenRevocationRegistry;
+import com.taskmanagement.tenant.TenantContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final int MAX_DIRECTORY_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final TaskExecutor taskExecutor;
     @Autowired
     private PasswordEncoder passwordEncoder;
 
-    public UserDto createUser(UserDto userDto) {
+    public CompletableFuture<UserDto> createUser(UserDto userDto) {
         log.info("Creating user with email: {}", userDto.getEmail());
-        var user = UserDto.mapDtoToEntity(userDto);
-        user.setPassword(passwordEncoder.encode(user.getPassword()));
-        user.setRole(user.getRole() != null ? (user.getRole()) : Role.USER);
-        var savedUser = userRepository.save(user);
-        log.info("User created with ID: {}", savedUser.getId());
-        return UserDto.mapEntityToDto(savedUser);
+        return passwordHashingExecutor.submit(() -> {
+                    var user = UserDto.mapDtoToEntity(userDto);
+                    user.setPassword(passwordEncoder.encode(user.getPassword()));
+                    user.setRole(user.getRole() != null ? (user.getRole()) : Role.USER);
+                    return user;
+                })
+                .thenApplyAsync(user -> {
+                    var savedUser = userRepository.save(user);
+                    log.info("User created with ID: {}", savedUser.getId());
+                    return UserDto.mapEntityToDto(savedUser);
+                }, databaseExecutor());
     }
 
-    public UserDto updateUserById(Long id, UserDto userDto) {
+    // Cached assignees are keyed by task, so a changed user clears them all
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.TASK_ASSIGNEES, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.USER_SUMMARIES, keyGenerator = CacheConfig.TENANT_KEY_GENERATOR)
+    })
+    // With a new password the user is loaded and saved once the hash is ready
+    public CompletableFuture<UserDto> updateUserById(Long id, UserDto userDto) {
         log.info("Updating user with ID: {}", id);
 
-        var existingUser = userRepository.findById(id)
-                .orElseThrow(() -> new UserNotFoundException("User not found with id " + id));
+        var encodedPassword = userDto.getPassword() != null && !userDto.getPassword().isEmpty()
+                ? passwordHashingExecutor.submit(() -> passwordEncoder.encode(userDto.getPassword()))
+                : CompletableFuture.<String>completedFuture(null);
+        return encodedPassword.thenApplyAsync(password -> {
+            var existingUser = userRepository.findById(id)
+                    .orElseThrow(() -> new UserNotFoundException("User not found with id " + id));
 
-        if (userDto.getEmail() != null) {
-            existingUser.setEmail(userDto.getEmail());
-        }
-        if (userDto.getPassword() != null && !userDto.getPassword().isEmpty()) {
-            existingUser.setPassword(passwordEncoder.encode(userDto.getPassword()));
-        }
-        existingUser.setRole(userDto.getRole() != null ? Role.valueOf(userDto.getRole()) : Role.USER);
+            if (userDto.getEmail() != null) {
+                existingUser.setEmail(userDto.getEmail());
+            }
+            if (password != null) {
+                existingUser.setPassword(password);
+                refreshTokenService.revokeAll(id);
+            }
+            existingUser.setRole(userDto.getRole() != null ? Role.valueOf(userDto.getRole()) : Role.USER);
 
-        var updatedUser = userRepository.save(existingUser);
-        log.info("User updated with ID: {}", updatedUser.getId());
-        return UserDto.mapEntityToDto(updatedUser);
+            var updatedUser = userRepository.save(existingUser);
+            tokenRevocationRegistry.revokeUser(id);
+            log.info("User updated with ID: {}", updatedUser.getId());
+            return UserDto.mapEntityToDto(updatedUser);
+        }, databaseExecutor());
     }
 
+    // Database work after a hash runs on the application task executor, so the small hashing pool
+    // only ever holds CPU-bound work and does not cap database concurrency
+    private Executor databaseExecutor() {
+        return command -> taskExecutor.execute(TenantContext.wrap(command));
+    }
+
+    // Only flags the user row; their tasks and comments are hidden on read from now on and
+    // flagged and removed in batches by PurgeService. Tasks assigned to them keep the assignee
+    @Transactional
+    @CacheEvict(cacheNames = {CacheConfig.TASKS, CacheConfig.TASK_ASSIGNEES, CacheConfig.USER_SUMMARIES}, allEntries = true)
     public void deleteUser(Long id) {
         log.info("Deleting user with ID: {}", id);
 
-        var existingUser = userRepository.findById(id)
-                .orElseThrow(() -> new UserNotFoundException("User not found with id " + id));
-        userRepository.delete(existingUser);
+        if (userRepository.softDeleteById(id) == 0) {
+            throw new UserNotFoundException("User not found with id " + id);
+        }
+        refreshTokenService.revokeAll(id);
+        tokenRevocationRegistry.revokeUser(id);
         log.info("User deleted with ID: {}", id);
     }
 
@@ -68,15 +118,93 @@ public class UserService {
         return UserDto.mapEntityToDto(user);
     }
 
-    public List<UserDto> getAllUsers() {
-        log.info("Fetching all users");
+    /**
+     * Keyset paged user directory, optionally filtered by a name or email prefix. Rows are
+     * projected straight into {@link UserSummaryDto}, so password hashes are never loaded.
+     * Without a filter users come in id order; with one, name matches come first in name order,
+     * then the remaining email matches in email order, each read along its own index.
+     */
+    public CursorPage<UserSummaryDto> getUserDirectory(String after, String query, int size) {
+        if (size < 1 || size > MAX_DIRECTORY_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_DIRECTORY_PAGE_SIZE);
+        }
+        log.info("Fetching users after cursor: {}, query: {}", after, query);
+
+        if (query != null && !query.isBlank()) {
+            return searchDirectory(after, likePrefix(query.trim()), size);
+        }
+        long afterId = after != null ? CursorPage.decodeCursor(after) : 0L;
+        var users = userRepository.findSummariesAfter(afterId, Limit.of(size + 1));
 
-        var users = userRepository.findAll();
-        var userDtos = users.stream()
-                .map(UserDto::mapEntityToDto)
-                .collect(Collectors.toList());
+        boolean hasMore = users.size() > size;
+        var items = new ArrayList<>(hasMore ? users.subList(0, size) : users);
+        var nextCursor = hasMore ? CursorPage.encodeCursor(items.get(items.size() - 1).getId()) : null;
 
-        log.info("Fetched {} users", userDtos.size());
-        return userDtos;
+        log.info("Fetched {} users", items.size());
+        return new CursorPage<>(items, nextCursor, null);
+    }
+
+    private CursorPage<UserSummaryDto> searchDirectory(String after, String prefix, int size) {
+        var cursor = after != null ? SearchCursor.decode(after) : SearchCursor.FIRST;
+        var items = new ArrayList<UserSummaryDto>(size);
+        var afterEmail = cursor.email();
+        if (cursor.byName()) {
+            var byName = userRepository.searchSummariesByNameAfter(prefix, cursor.name(), cursor.id(), Limit.of(size + 1));
+            if (byName.size() > size) {
+                items.addAll(byName.subList(0, size));
+                var last = items.get(size - 1);
+                log.info("Fetched {} users", items.size());
+                return new CursorPage<>(items, new SearchCursor(last.getName(), last.getId(), null).encode(), null);
+            }
+            items.addAll(byName);
+            afterEmail = "";
+        }
+        int remaining = size - items.size();
+        var byEmail = userRepository.searchSummariesByEmailAfter(prefix, afterEmail, Limit.of(remaining + 1));
+        boolean hasMore = byEmail.size() > remaining;
+        items.addAll(hasMore ? byEmail.subList(0, remaining) : byEmail);
+        String nextCursor = null;
+        if (hasMore) {
+            var lastEmail = remaining > 0 ? byEmail.get(remaining - 1).getEmail() : afterEmail;
+            nextCursor = new SearchCursor(null, null, lastEmail).encode();
+        }
+
+        log.info("Fetched {} users", items.size());
+        return new CursorPage<>(items, nextCursor, null);
+    }
+
+    private static String likePrefix(String query) {
+        return query.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+    }
+
+    // Position in a filtered directory: the last (name, id) while walking name matches, then the last email
+    private record SearchCursor(String name, Long id, String email) {
+
+        static final SearchCursor FIRST = new SearchCursor("", 0L, null);
+
+        boolean byName() {
+            return email == null;
+        }
+
+        String encode() {
+            var raw = byName() ? "n:" + id + ":" + name : "e:" + email;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static SearchCursor decode(String cursor) {
+            try {
+                var raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                if (raw.startsWith("n:")) {
+                    var parts = raw.split(":", 3);
+                    return new SearchCursor(parts[2], Long.parseLong(parts[1]), null);
+                }
+                if (raw.startsWith("e:")) {
+                    return new SearchCursor(null, null, raw.substring(2));
+                }
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+            }
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
     }
 }
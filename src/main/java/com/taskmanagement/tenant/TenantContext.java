@@ -0,0 +1,77 @@
+package com.taskmanagement.tenant;
+
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Tenant of the work running on the current thread. Set by {@link com.taskmanagement.security.JwtFilter}
+ * for requests and carried over explicitly to other threads with {@link #wrap(Runnable)}, or by
+ * context propagation through {@link TenantThreadLocalAccessor}.
+ */
+public final class TenantContext {
+
+    public static final String DEFAULT_TENANT = "default";
+    public static final String TENANT_HEADER = "X-Tenant-Id";
+
+    private static final Pattern VALID_TENANT = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    public static String getTenantId() {
+        var tenantId = CURRENT.get();
+        return tenantId != null ? tenantId : DEFAULT_TENANT;
+    }
+
+    public static void setTenantId(String tenantId) {
+        if (!isValid(tenantId)) {
+            throw new IllegalArgumentException("Invalid tenant id: " + tenantId);
+        }
+        CURRENT.set(tenantId);
+    }
+
+    // Null when no tenant was set, unlike getTenantId
+    static String peek() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static boolean isValid(String tenantId) {
+        return tenantId != null && VALID_TENANT.matcher(tenantId).matches();
+    }
+
+    public static <T> T callAs(String tenantId, Supplier<T> action) {
+        var previous = CURRENT.get();
+        setTenantId(tenantId);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static Runnable wrap(Runnable task) {
+        var tenantId = getTenantId();
+        return () -> {
+            var previous = CURRENT.get();
+            CURRENT.set(tenantId);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    private static void restore(String previous) {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.taskmanagement.tenant;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Caps the number of requests a single tenant can have in flight, so one tenant cannot
+ * take over the shared connection pool and request threads. Permits are only kept for tenants
+ * of the {@link TenantRegistry}, so made up tenant ids cannot grow the map.
+ */
+@Slf4j
+@Component
+public class TenantQuotaFilter extends OncePerRequestFilter {
+
+    private final int maxConcurrentRequests;
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+    private final Counter rejectedCounter;
+    private final TenantRegistry tenantRegistry;
+
+    public TenantQuotaFilter(@Value("${tenant.max-concurrent-requests:50}") int maxConcurrentRequests,
+                             MeterRegistry meterRegistry, TenantRegistry tenantRegistry) {
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.tenantRegistry = tenantRegistry;
+        this.rejectedCounter = meterRegistry.counter("tenant.quota.rejected");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        var tenantId = TenantContext.getTenantId();
+        if (!tenantRegistry.isKnown(tenantId)) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"Unknown tenant\"}");
+            return;
+        }
+        var semaphore = permits.computeIfAbsent(tenantId, key -> new Semaphore(maxConcurrentRequests));
+        if (!semaphore.tryAcquire()) {
+            rejectedCounter.increment();
+            log.warn("Tenant {} exceeded {} concurrent requests", tenantId, maxConcurrentRequests);
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"Too many concurrent requests for tenant\"}");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            semaphore.release();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.taskmanagement.tenant;
+
+import com.taskmanagement.entity.Tenant;
+import com.taskmanagement.repository.TenantRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Enabled tenants, reloaded from the tenant table every {@code tenant.registry-refresh-interval}.
+ * Requests for any other tenant are rejected, whatever their header says. The default tenant
+ * always exists; whether it is open for registration is configured.
+ */
+@Slf4j
+@Component
+public class TenantRegistry implements InitializingBean {
+
+    private final TenantRepository tenantRepository;
+    private final boolean defaultOpenRegistration;
+    private volatile Map<String, Tenant> tenants = Map.of();
+
+    public TenantRegistry(TenantRepository tenantRepository,
+                          @Value("${tenant.default.open-registration:true}") boolean defaultOpenRegistration) {
+        this.tenantRepository = tenantRepository;
+        this.defaultOpenRegistration = defaultOpenRegistration;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${tenant.registry-refresh-interval:PT1M}", initialDelayString = "${tenant.registry-refresh-interval:PT1M}")
+    public void reload() {
+        try {
+            tenants = tenantRepository.findByEnabledTrue().stream()
+                    .collect(Collectors.toUnmodifiableMap(Tenant::getId, Function.identity()));
+        } catch (RuntimeException e) {
+            log.error("Failed to reload tenants, keeping the {} known ones: {}", tenants.size(), e.getMessage());
+        }
+    }
+
+    public boolean isKnown(String tenantId) {
+        return TenantContext.DEFAULT_TENANT.equals(tenantId) || tenants.containsKey(tenantId);
+    }
+
+    public boolean allowsRegistration(String tenantId) {
+        var tenant = tenants.get(tenantId);
+        if (tenant != null) {
+            return tenant.isOpenRegistration();
+        }
+        return TenantContext.DEFAULT_TENANT.equals(tenantId) && defaultOpenRegistration;
+    }
+}
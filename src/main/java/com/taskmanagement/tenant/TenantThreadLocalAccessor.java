@@ -0,0 +1,33 @@
+package com.taskmanagement.tenant;
+
+import io.micrometer.context.ThreadLocalAccessor;
+
+/**
+ * Lets context propagation (used by Spring for GraphQL and Reactor) capture the tenant of the
+ * calling thread and restore it on the threads that run data fetchers. Registered through
+ * META-INF/services.
+ */
+public class TenantThreadLocalAccessor implements ThreadLocalAccessor<String> {
+
+    public static final String KEY = "tenantId";
+
+    @Override
+    public Object key() {
+        return KEY;
+    }
+
+    @Override
+    public String getValue() {
+        return TenantContext.peek();
+    }
+
+    @Override
+    public void setValue(String tenantId) {
+        TenantContext.setTenantId(tenantId);
+    }
+
+    @Override
+    public void setValue() {
+        TenantContext.clear();
+    }
+}
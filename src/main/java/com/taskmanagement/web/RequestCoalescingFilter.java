@@ -0,0 +1,178 @@
+package com.taskmanagement.web;
+
+import com.taskmanagement.security.AuthenticatedUser;
+import com.taskmanagement.tenant.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Single-flight for identical concurrent GETs: the first request for a key runs, the ones that
+ * arrive while it is in flight wait for it and get a copy of its response. The entry is dropped
+ * before the result is handed out, so nothing is reused once the first request has finished.
+ * <p>
+ * The key is the path, the sorted query parameters, the Accept header, the tenant and the role,
+ * so only endpoints whose response depends on nothing else may be listed in
+ * request-coalescing.paths. It runs before {@link com.taskmanagement.tenant.TenantQuotaFilter},
+ * so waiting requests do not hold a tenant permit.
+ */
+@Slf4j
+@Component
+public class RequestCoalescingFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final List<String> paths;
+    private final Duration maxWait;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, CompletableFuture<CapturedResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executedCounter;
+    private final Counter coalescedCounter;
+    private final Counter timedOutCounter;
+
+    public RequestCoalescingFilter(@Value("${request-coalescing.enabled:true}") boolean enabled,
+                                   @Value("${request-coalescing.paths:}") List<String> paths,
+                                   @Value("${request-coalescing.max-wait:PT5S}") Duration maxWait,
+                                   MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.paths = paths;
+        this.maxWait = maxWait;
+        this.executedCounter = counter(meterRegistry, "executed");
+        this.coalescedCounter = counter(meterRegistry, "coalesced");
+        this.timedOutCounter = counter(meterRegistry, "timed_out");
+        meterRegistry.gaugeMapSize("http.coalescing.in_flight", Tags.empty(), inFlight);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!enabled || !HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+        var path = pathWithinApplication(request);
+        return paths.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        var key = key(request);
+        var execution = new CompletableFuture<CapturedResponse>();
+        var leader = inFlight.putIfAbsent(key, execution);
+        if (leader != null) {
+            if (awaitAndCopy(leader, response)) {
+                coalescedCounter.increment();
+                return;
+            }
+            // the shared execution failed or is too slow, run this request on its own
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        executedCounter.increment();
+        var wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+            inFlight.remove(key, execution);
+            execution.complete(CapturedResponse.of(wrapper));
+        } catch (IOException | ServletException | RuntimeException e) {
+            inFlight.remove(key, execution);
+            execution.completeExceptionally(e);
+            throw e;
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private boolean awaitAndCopy(CompletableFuture<CapturedResponse> leader, HttpServletResponse response) throws IOException {
+        CapturedResponse captured;
+        try {
+            captured = leader.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timedOutCounter.increment();
+            log.warn("Coalesced request waited more than {}, running it separately", maxWait);
+            return false;
+        } catch (ExecutionException e) {
+            log.debug("Shared execution failed: {}", e.getCause().getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        captured.writeTo(response);
+        return true;
+    }
+
+    private String key(HttpServletRequest request) {
+        var parameters = new TreeMap<String, List<String>>();
+        request.getParameterMap().forEach((name, values) -> parameters.put(name, Arrays.asList(values)));
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        var role = authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user
+                ? user.role().name()
+                : "anonymous";
+        return TenantContext.getTenantId() + '|' + role + '|' + pathWithinApplication(request) + '|'
+                + parameters + '|' + request.getHeader(HttpHeaders.ACCEPT);
+    }
+
+    private static String pathWithinApplication(HttpServletRequest request) {
+        var path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.length() > 1 && path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("http.coalescing.requests")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private record CapturedResponse(int status, String contentType, Map<String, List<String>> headers, byte[] body) {
+
+        static CapturedResponse of(ContentCachingResponseWrapper wrapper) {
+            var headers = new TreeMap<String, List<String>>(String.CASE_INSENSITIVE_ORDER);
+            for (var name : wrapper.getHeaderNames()) {
+                var values = new ArrayList<>(wrapper.getHeaders(name));
+                if (!values.isEmpty()) {
+                    headers.put(name, values);
+                }
+            }
+            return new CapturedResponse(wrapper.getStatus(), wrapper.getContentType(), headers, wrapper.getContentAsByteArray());
+        }
+
+        void writeTo(HttpServletResponse response) throws IOException {
+            response.setStatus(status);
+            // set, not add: headers written before this filter, by the security chain, are already on the response
+            headers.forEach((name, values) -> {
+                response.setHeader(name, values.get(0));
+                values.stream().skip(1).forEach(value -> response.addHeader(name, value));
+            });
+            if (contentType != null) {
+                response.setContentType(contentType);
+            }
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+}